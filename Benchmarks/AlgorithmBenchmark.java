@@ -0,0 +1,723 @@
+package Benchmarks;
+import DSA1.AlgorithmCollection;
+import DSA1.Distinctness;
+import DSA1.LUDecomposition;
+import DSA1.MatrixKernels;
+import DSA1.SimdKernels;
+import DSA1.SparseMatrix;
+import DSA1.Strassen;
+import DSA2.DatasetGenerator;
+import DSA2.EytzingerIndex;
+import DSA2.SearchAndSort;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark suite for the algorithms in DSA1 and DSA2.
+ *
+ * Every benchmark is measured the way JMH measures it:
+ * - each (benchmark, size, distribution) combination runs in its own freshly forked JVM,
+ *   so JIT profiles and heap state from one algorithm never leak into another;
+ * - warm-up iterations are run and discarded before the measurement iterations;
+ * - each iteration repeats the operation for a fixed time budget and reports ns/op,
+ *   with input preparation (copying the unsorted array, rebuilding the matrix) left untimed;
+ * - results are sunk into a blackhole so the JIT cannot eliminate the work;
+ * - bytes allocated per operation on the benchmark thread are reported next to the time
+ *   (the equivalent of JMH's gc profiler "gc.alloc.rate.norm").
+ *
+ * Usage:
+ *   java -cp out Benchmarks.AlgorithmBenchmark [options] [name filter...]
+ * Add --add-modules jdk.incubator.vector before -cp to measure the SimdKernels benchmarks with
+ * the Vector API rather than the scalar fallback (incubator-vector/DSA1/VectorApiKernels.java
+ * must have been compiled into the same output directory); forked JVMs inherit it.
+ *
+ * Options:
+ *   -l                      list the benchmarks and their default parameters
+ *   -wi N                   warm-up iterations per fork (default 3)
+ *   -i N                    measurement iterations per fork (default 5)
+ *   -f N                    forks per combination, 0 runs in-process (default 2)
+ *   -r MS                   time budget per iteration in milliseconds (default 500)
+ *   -p size=A,B,...         override the input sizes
+ *   -p distribution=A,B,... override the input distributions
+ *   -jvmArgs "ARGS"         extra arguments for the forked JVMs (e.g. "-Xmx4g")
+ *   -o FILE                 also write the results as CSV, for comparing runs across releases
+ */
+public class AlgorithmBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int KEYS_PER_INVOCATION = 256;
+    private static final int KEY_POOL_SIZE = 256 * KEYS_PER_INVOCATION;
+
+    /** Blackhole: every result is folded into this field so no benchmark body is dead code. */
+    private static volatile long sink;
+
+    /**
+     * A single benchmarked operation. setup and reset are untimed; only run is measured.
+     */
+    interface Workload {
+        void setup(int size, String distribution, Random random);
+
+        /** Restores the input before each invocation (e.g. un-sorts the array). */
+        default void reset() {}
+
+        long run();
+
+        /** Number of logical operations performed by one call to run. */
+        default int operationsPerInvocation() { return 1; }
+    }
+
+    private static final class Benchmark {
+        final String name;
+        final int[] sizes;
+        final String[] distributions;
+        final Supplier<Workload> factory;
+
+        Benchmark(String name, int[] sizes, String[] distributions, Supplier<Workload> factory) {
+            this.name = name;
+            this.sizes = sizes;
+            this.distributions = distributions;
+            this.factory = factory;
+        }
+    }
+
+    private static final String[] SORT_DISTRIBUTIONS = {"random", "sorted", "reversed", "nearlySorted", "fewUnique", "organPipe", "zipf"};
+    private static final String[] SEARCH_DISTRIBUTIONS = {"present", "absent"};
+
+    private static final Map<String, Benchmark> BENCHMARKS = new LinkedHashMap<>();
+
+    static {
+        register(new Benchmark("SearchAndSort.bubbleSort", new int[]{1_000, 5_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::bubbleSort)));
+        register(new Benchmark("SearchAndSort.insertionSort", new int[]{1_000, 5_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::insertionSort)));
+        register(new Benchmark("SearchAndSort.mergeSort", new int[]{1_000, 100_000, 1_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(arr -> SearchAndSort.mergeSort(arr, 0, arr.length - 1))));
+        register(new Benchmark("SearchAndSort.parallelMergeSort", new int[]{100_000, 1_000_000, 10_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::parallelMergeSort)));
+        register(new Benchmark("SearchAndSort.bufferedMergeSort", new int[]{1_000, 100_000, 1_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::bufferedMergeSort)));
+        register(new Benchmark("SearchAndSort.hybridSort", new int[]{1_000, 100_000, 1_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::hybridSort)));
+        register(new Benchmark("SearchAndSort.dualPivotQuickSort", new int[]{1_000, 100_000, 1_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::dualPivotQuickSort)));
+        register(new Benchmark("SearchAndSort.introSort", new int[]{1_000, 100_000, 1_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::introSort)));
+        register(new Benchmark("SearchAndSort.radixSort", new int[]{1_000, 100_000, 1_000_000, 10_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::radixSort)));
+        register(new Benchmark("SearchAndSort.parallelRadixSort", new int[]{100_000, 1_000_000, 10_000_000}, SORT_DISTRIBUTIONS,
+                () -> new SortWorkload(SearchAndSort::parallelRadixSort)));
+        register(new Benchmark("SearchAndSort.binarySearch", new int[]{1_000, 100_000, 10_000_000}, SEARCH_DISTRIBUTIONS,
+                () -> new SearchWorkload(true) {
+                    @Override
+                    int search(int[] arr, int key) { return SearchAndSort.binarySearch(arr, key); }
+                }));
+        register(new Benchmark("SearchAndSort.sequentialSearch", new int[]{1_000, 100_000}, SEARCH_DISTRIBUTIONS,
+                () -> new SearchWorkload(false) {
+                    @Override
+                    int search(int[] arr, int key) { return SearchAndSort.sequentialSearch(arr, key); }
+                }));
+        register(new Benchmark("SearchAndSort.interpolationSearch", new int[]{1_000, 100_000, 10_000_000}, SEARCH_DISTRIBUTIONS,
+                () -> new SearchWorkload(true) {
+                    @Override
+                    int search(int[] arr, int key) { return SearchAndSort.interpolationSearch(arr, key); }
+                }));
+        register(new Benchmark("SearchAndSort.exponentialSearch", new int[]{1_000, 100_000, 10_000_000}, SEARCH_DISTRIBUTIONS,
+                () -> new SearchWorkload(true) {
+                    @Override
+                    int search(int[] arr, int key) { return SearchAndSort.exponentialSearch(arr, key); }
+                }));
+        register(new Benchmark("EytzingerIndex.search", new int[]{1_000, 100_000, 10_000_000}, SEARCH_DISTRIBUTIONS,
+                () -> new SearchWorkload(true) {
+                    private EytzingerIndex index;
+
+                    @Override
+                    void prepare(int[] arr) { index = EytzingerIndex.build(arr); }
+
+                    @Override
+                    int search(int[] arr, int key) { return index.search(key); }
+                }));
+        register(new Benchmark("SearchAndSort.batchSearch", new int[]{1_000, 100_000, 10_000_000}, SEARCH_DISTRIBUTIONS,
+                () -> new BatchSearchWorkload(0)));
+        register(new Benchmark("SearchAndSort.batchSearch.fewKeys", new int[]{1_000, 100_000, 10_000_000}, SEARCH_DISTRIBUTIONS,
+                () -> new BatchSearchWorkload(KEYS_PER_INVOCATION)));
+        register(new Benchmark("AlgorithmCollection.areElementsUnique", new int[]{1_000, 10_000}, new String[]{"unique", "duplicateAtEnd"},
+                () -> new UniqueWorkload(AlgorithmCollection::areElementsUnique)));
+        for (Distinctness.Strategy strategy : Distinctness.Strategy.values()) {
+            register(new Benchmark("Distinctness.allDistinct." + strategy.name().toLowerCase(), new int[]{1_000, 100_000, 1_000_000, 10_000_000},
+                    new String[]{"unique", "duplicateAtEnd", "sparseUnique"},
+                    () -> new UniqueWorkload(arr -> Distinctness.allDistinct(arr, strategy))));
+        }
+        register(new Benchmark("AlgorithmCollection.matrixMultiply", new int[]{64, 256, 512}, new String[]{"dense"},
+                MatrixMultiplyWorkload::new));
+        register(new Benchmark("MatrixKernels.multiply", new int[]{64, 256, 512, 1024, 2048}, new String[]{"dense"},
+                () -> new FlatMatrixMultiplyWorkload(false)));
+        register(new Benchmark("MatrixKernels.parallelMultiply", new int[]{256, 512, 1024, 2048}, new String[]{"dense"},
+                () -> new FlatMatrixMultiplyWorkload(true)));
+        register(new Benchmark("Strassen.multiply", new int[]{256, 512, 1024, 2048}, new String[]{"dense"},
+                StrassenWorkload::new));
+        register(new Benchmark("SimdKernels.multiply", new int[]{256, 512, 1024, 2048}, new String[]{"dense"},
+                SimdMultiplyWorkload::new));
+        register(new Benchmark("SparseMatrix.multiplyVector", new int[]{10000, 1000000}, new String[]{"banded", "random5"},
+                () -> new SparseWorkload(SparseWorkload.Operation.VECTOR)));
+        register(new Benchmark("SparseMatrix.multiplySparse", new int[]{10000, 100000}, new String[]{"banded", "random5"},
+                () -> new SparseWorkload(SparseWorkload.Operation.SPARSE)));
+        register(new Benchmark("SparseMatrix.solve", new int[]{10000, 100000}, new String[]{"banded"},
+                () -> new SparseWorkload(SparseWorkload.Operation.SOLVE)));
+        register(new Benchmark("AlgorithmCollection.gaussianElimination", new int[]{64, 256, 512, 1024}, new String[]{"diagonallyDominant"},
+                () -> new GaussianEliminationWorkload(AlgorithmCollection::gaussianElimination)));
+        register(new Benchmark("LUDecomposition.factor", new int[]{64, 256, 512, 1024}, new String[]{"diagonallyDominant"},
+                () -> new LUFactorWorkload(false)));
+        register(new Benchmark("LUDecomposition.factorBlocked", new int[]{256, 512, 1024, 2048}, new String[]{"diagonallyDominant"},
+                () -> new LUFactorWorkload(true)));
+        register(new Benchmark("SimdKernels.gaussianElimination", new int[]{64, 256, 512}, new String[]{"diagonallyDominant"},
+                () -> new GaussianEliminationWorkload(SimdKernels::gaussianElimination)));
+    }
+
+    private static void register(Benchmark benchmark) {
+        BENCHMARKS.put(benchmark.name, benchmark);
+    }
+
+    // --- WORKLOADS ---
+
+    /** Sorts a fresh copy of the same input on every invocation. */
+    private static final class SortWorkload implements Workload {
+        private final Consumer<int[]> sorter;
+        private int[] original;
+        private int[] work;
+
+        SortWorkload(Consumer<int[]> sorter) {
+            this.sorter = sorter;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            original = generateArray(size, distribution, random);
+            work = new int[size];
+        }
+
+        @Override
+        public void reset() {
+            System.arraycopy(original, 0, work, 0, original.length);
+        }
+
+        @Override
+        public long run() {
+            sorter.accept(work);
+            return work[work.length / 2];
+        }
+    }
+
+    /** Looks up a batch of keys per invocation so that sub-microsecond searches are measurable. */
+    private abstract static class SearchWorkload implements Workload {
+        private final boolean sorted;
+        private int[] arr;
+        private int[] keys;
+        private int next;
+
+        SearchWorkload(boolean sorted) {
+            this.sorted = sorted;
+        }
+
+        abstract int search(int[] arr, int key);
+
+        /** Called once the array is filled (and sorted), e.g. to build an index over it. */
+        void prepare(int[] arr) {}
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            // Even values only, so every odd key is guaranteed to be absent.
+            arr = new int[size];
+            for (int i = 0; i < size; i++) arr[i] = 2 * random.nextInt(Integer.MAX_VALUE / 2);
+            if (sorted) Arrays.sort(arr);
+            // A pool much larger than one invocation, walked in turn: replaying the same 256 keys
+            // would let the branch predictor learn their search paths and flatter branchy searches.
+            keys = new int[KEY_POOL_SIZE];
+            for (int i = 0; i < keys.length; i++) {
+                int present = arr[random.nextInt(size)];
+                keys[i] = "absent".equals(distribution) ? present + 1 : present;
+            }
+            prepare(arr);
+        }
+
+        @Override
+        public long run() {
+            long acc = 0;
+            int start = next;
+            for (int i = start; i < start + KEYS_PER_INVOCATION; i++) acc += search(arr, keys[i]);
+            next = (start + KEYS_PER_INVOCATION) % KEY_POOL_SIZE;
+            return acc;
+        }
+
+        @Override
+        public int operationsPerInvocation() { return KEYS_PER_INVOCATION; }
+    }
+
+    /** One batchSearch call per invocation; keyCount 0 means as many keys as array elements. */
+    private static final class BatchSearchWorkload implements Workload {
+        private final int keyCount;
+        private int[] arr;
+        private int[] keys;
+
+        BatchSearchWorkload(int keyCount) {
+            this.keyCount = keyCount;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            // Same data as SearchWorkload, so ns/op is comparable with binarySearch per key.
+            arr = new int[size];
+            for (int i = 0; i < size; i++) arr[i] = 2 * random.nextInt(Integer.MAX_VALUE / 2);
+            Arrays.sort(arr);
+            keys = new int[keyCount > 0 ? keyCount : size];
+            for (int i = 0; i < keys.length; i++) {
+                int present = arr[random.nextInt(size)];
+                keys[i] = "absent".equals(distribution) ? present + 1 : present;
+            }
+        }
+
+        @Override
+        public long run() {
+            long acc = 0;
+            for (int index : SearchAndSort.batchSearch(arr, keys)) acc += index;
+            return acc;
+        }
+
+        @Override
+        public int operationsPerInvocation() { return keys.length; }
+    }
+
+    private static final class UniqueWorkload implements Workload {
+        private final Predicate<int[]> check;
+        private int[] arr;
+
+        UniqueWorkload(Predicate<int[]> check) {
+            this.check = check;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            arr = generateArray(size, "unique", random);
+            // Worst detectable case: the only duplicate pair is the last two positions.
+            if ("duplicateAtEnd".equals(distribution) && size > 1) arr[size - 1] = arr[size - 2];
+            // Multiplying by an odd constant permutes the ints: still distinct, but spread over the whole range.
+            if ("sparseUnique".equals(distribution)) {
+                for (int i = 0; i < size; i++) arr[i] *= 0x2545F491;
+            }
+        }
+
+        @Override
+        public long run() {
+            return check.test(arr) ? 1 : 0;
+        }
+    }
+
+    private static final class MatrixMultiplyWorkload implements Workload {
+        private double[][] A;
+        private double[][] B;
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            A = generateMatrix(size, size, random);
+            B = generateMatrix(size, size, random);
+        }
+
+        @Override
+        public long run() {
+            double[][] C = AlgorithmCollection.matrixMultiply(A, B);
+            return Double.doubleToRawLongBits(C[0][0]);
+        }
+    }
+
+    /** Multiplies flat row-major n x n matrices with the cache-blocked kernel, serial or parallel. */
+    private static final class FlatMatrixMultiplyWorkload implements Workload {
+        private final boolean parallel;
+        private double[] A;
+        private double[] B;
+        private int n;
+
+        FlatMatrixMultiplyWorkload(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            n = size;
+            A = MatrixKernels.flatten(generateMatrix(size, size, random));
+            B = MatrixKernels.flatten(generateMatrix(size, size, random));
+        }
+
+        @Override
+        public long run() {
+            double[] C = parallel ? MatrixKernels.parallelMultiply(A, B, n, n, n) : MatrixKernels.multiply(A, B, n, n, n);
+            return Double.doubleToRawLongBits(C[0]);
+        }
+    }
+
+    /** Multiplies flat row-major n x n matrices with Strassen at the default crossover. */
+    private static final class StrassenWorkload implements Workload {
+        private double[] A;
+        private double[] B;
+        private int n;
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            n = size;
+            A = MatrixKernels.flatten(generateMatrix(size, size, random));
+            B = MatrixKernels.flatten(generateMatrix(size, size, random));
+        }
+
+        @Override
+        public long run() {
+            double[] C = Strassen.multiply(A, B, n, Strassen.DEFAULT_CROSSOVER);
+            return Double.doubleToRawLongBits(C[0]);
+        }
+    }
+
+    /** Multiplies flat row-major n x n matrices with the Vector API kernel (scalar if the module is absent). */
+    private static final class SimdMultiplyWorkload implements Workload {
+        private double[] A;
+        private double[] B;
+        private int n;
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            n = size;
+            A = MatrixKernels.flatten(generateMatrix(size, size, random));
+            B = MatrixKernels.flatten(generateMatrix(size, size, random));
+        }
+
+        @Override
+        public long run() {
+            double[] C = SimdKernels.multiply(A, B, n, n, n);
+            return Double.doubleToRawLongBits(C[0]);
+        }
+    }
+
+    /** Eliminates a fresh copy of a diagonally dominant system, so no zero pivot is ever hit. */
+    private static final class GaussianEliminationWorkload implements Workload {
+        private final Consumer<double[][]> eliminate;
+        private double[][] original;
+        private double[][] work;
+
+        GaussianEliminationWorkload(Consumer<double[][]> eliminate) {
+            this.eliminate = eliminate;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            original = generateMatrix(size, size + 1, random);
+            for (int i = 0; i < size; i++) original[i][i] += size;
+            work = new double[size][size + 1];
+        }
+
+        @Override
+        public void reset() {
+            for (int i = 0; i < original.length; i++) {
+                System.arraycopy(original[i], 0, work[i], 0, original[i].length);
+            }
+        }
+
+        @Override
+        public long run() {
+            eliminate.accept(work);
+            return Double.doubleToRawLongBits(work[work.length - 1][work.length]);
+        }
+    }
+
+    /**
+     * Factors a diagonally dominant n x n matrix and solves one right-hand side with the factors,
+     * the same work as gaussianElimination on the augmented system plus a back substitution.
+     */
+    private static final class LUFactorWorkload implements Workload {
+        private final boolean blocked;
+        private double[][] A;
+        private double[] b;
+
+        LUFactorWorkload(boolean blocked) {
+            this.blocked = blocked;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            A = generateMatrix(size, size, random);
+            for (int i = 0; i < size; i++) A[i][i] += size;
+            b = generateMatrix(1, size, random)[0];
+        }
+
+        @Override
+        public long run() {
+            LUDecomposition lu = blocked ? LUDecomposition.factorBlocked(A) : LUDecomposition.factor(A);
+            double[] x = lu.solve(b);
+            return Double.doubleToRawLongBits(x[x.length - 1]);
+        }
+    }
+
+    /** Runs one sparse operation on a diagonally dominant n x n matrix with about 5 nonzeros per row. */
+    private static final class SparseWorkload implements Workload {
+        enum Operation { VECTOR, SPARSE, SOLVE }
+
+        private final Operation operation;
+        private SparseMatrix A;
+        private double[] x;
+
+        SparseWorkload(Operation operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void setup(int size, String distribution, Random random) {
+            A = generateSparse(size, distribution, random);
+            x = new double[size];
+            for (int i = 0; i < size; i++) x[i] = random.nextDouble();
+        }
+
+        @Override
+        public long run() {
+            switch (operation) {
+                case VECTOR: return Double.doubleToRawLongBits(A.multiply(x)[0]);
+                case SPARSE: return A.multiply(A).nnz();
+                default: return Double.doubleToRawLongBits(A.solve(x)[0]);
+            }
+        }
+    }
+
+    /**
+     * "banded": nonzeros within two places of the diagonal. "random5": the diagonal plus four
+     * uniformly random columns per row. The diagonal dominates, so the matrix is nonsingular.
+     */
+    static SparseMatrix generateSparse(int size, String distribution, Random random) {
+        int[] rows = new int[5 * size], cols = new int[5 * size];
+        double[] values = new double[5 * size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            rows[count] = i;
+            cols[count] = i;
+            values[count++] = 10.0;
+            for (int d = 0; d < 4; d++) {
+                int j;
+                if (distribution.equals("banded")) {
+                    j = i + (d < 2 ? d - 2 : d - 1);
+                    if (j < 0 || j >= size) continue;
+                } else if (distribution.equals("random5")) {
+                    j = random.nextInt(size);
+                } else {
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+                }
+                rows[count] = i;
+                cols[count] = j;
+                values[count++] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return SparseMatrix.fromCoordinates(size, size, rows, cols, values, count);
+    }
+
+    // --- INPUT GENERATION ---
+
+    /**
+     * "unique" is a random permutation of 0 .. size - 1; every other name is a
+     * DatasetGenerator distribution ("random" being its UNIFORM), seeded from random.
+     */
+    static int[] generateArray(int size, String distribution, Random random) {
+        if (!distribution.equals("unique")) {
+            return DatasetGenerator.generate(DatasetGenerator.parse(distribution), size, random.nextLong());
+        }
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) arr[i] = i;
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        return arr;
+    }
+
+    static double[][] generateMatrix(int rows, int cols, Random random) {
+        double[][] M = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) M[i][j] = random.nextDouble() * 2 - 1;
+        }
+        return M;
+    }
+
+    // --- MEASUREMENT ---
+
+    /**
+     * Runs warm-up and measurement iterations of one combination in the current JVM.
+     * Returns {ns/op, bytes allocated/op} for each measurement iteration.
+     */
+    static double[][] measure(Benchmark benchmark, int size, String distribution, int warmup, int iterations, long iterationMillis) {
+        Workload workload = benchmark.factory.get();
+        workload.setup(size, distribution, new Random(SEED));
+        for (int w = 0; w < warmup; w++) runIteration(workload, iterationMillis);
+        double[][] results = new double[iterations][];
+        for (int i = 0; i < iterations; i++) results[i] = runIteration(workload, iterationMillis);
+        return results;
+    }
+
+    private static double[] runIteration(Workload workload, long iterationMillis) {
+        long budget = iterationMillis * 1_000_000L;
+        long timed = 0;
+        long invocations = 0;
+        long acc = 0;
+        long allocatedBefore = SearchAndSort.currentThreadAllocatedBytes();
+        // Always do at least one invocation, even if it alone exceeds the budget.
+        do {
+            workload.reset();
+            long startTime = System.nanoTime();
+            acc += workload.run();
+            timed += System.nanoTime() - startTime;
+            invocations++;
+        } while (timed < budget);
+        long allocated = SearchAndSort.currentThreadAllocatedBytes() - allocatedBefore;
+        sink += acc;
+        long operations = invocations * workload.operationsPerInvocation();
+        return new double[]{(double) timed / operations, allocatedBefore < 0 ? Double.NaN : (double) allocated / operations};
+    }
+
+    /** Launches a fresh JVM for one combination and collects its measurement iterations. */
+    private static List<double[]> runForked(Benchmark benchmark, int size, String distribution, int warmup, int iterations,
+                                      long iterationMillis, List<String> jvmArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        // Forks see the Vector API only if the parent JVM did.
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && !jvmArgs.contains("jdk.incubator.vector")) {
+            command.add("--add-modules");
+            command.add("jdk.incubator.vector");
+        }
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(AlgorithmBenchmark.class.getName());
+        command.add("--child");
+        command.add(benchmark.name);
+        command.add(String.valueOf(size));
+        command.add(distribution);
+        command.add(String.valueOf(warmup));
+        command.add(String.valueOf(iterations));
+        command.add(String.valueOf(iterationMillis));
+
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        List<double[]> results = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("RESULT ")) {
+                    String[] fields = line.split(" ");
+                    results.add(new double[]{Double.parseDouble(fields[1]), Double.parseDouble(fields[2])});
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Forked JVM for " + benchmark.name + " exited with code " + exitCode);
+        }
+        return results;
+    }
+
+    private static void runChild(String[] args) {
+        Benchmark benchmark = BENCHMARKS.get(args[1]);
+        double[][] results = measure(benchmark, Integer.parseInt(args[2]), args[3],
+                Integer.parseInt(args[4]), Integer.parseInt(args[5]), Long.parseLong(args[6]));
+        for (double[] r : results) System.out.println("RESULT " + r[0] + " " + r[1]);
+    }
+
+    // --- DRIVER ---
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--child")) {
+            runChild(args);
+            return;
+        }
+
+        int warmup = 3, iterations = 5, forks = 2;
+        long iterationMillis = 500;
+        int[] sizeOverride = null;
+        String[] distributionOverride = null;
+        List<String> jvmArgs = new ArrayList<>();
+        String csvFile = null;
+        List<String> filters = new ArrayList<>();
+
+        for (int a = 0; a < args.length; a++) {
+            switch (args[a]) {
+                case "-l":
+                    for (Benchmark b : BENCHMARKS.values()) {
+                        System.out.println(b.name + "  size=" + Arrays.toString(b.sizes) + "  distribution=" + Arrays.toString(b.distributions));
+                    }
+                    return;
+                case "-wi": warmup = Integer.parseInt(args[++a]); break;
+                case "-i": iterations = Integer.parseInt(args[++a]); break;
+                case "-f": forks = Integer.parseInt(args[++a]); break;
+                case "-r": iterationMillis = Long.parseLong(args[++a]); break;
+                case "-jvmArgs": jvmArgs.addAll(Arrays.asList(args[++a].trim().split("\\s+"))); break;
+                case "-o": csvFile = args[++a]; break;
+                case "-p": {
+                    String[] kv = args[++a].split("=", 2);
+                    if (kv[0].equals("size")) {
+                        sizeOverride = Arrays.stream(kv[1].split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+                    } else if (kv[0].equals("distribution")) {
+                        distributionOverride = kv[1].split(",");
+                    } else {
+                        throw new IllegalArgumentException("Unknown parameter: " + kv[0]);
+                    }
+                    break;
+                }
+                default: filters.add(args[a]);
+            }
+        }
+
+        PrintWriter csv = csvFile == null ? null : new PrintWriter(csvFile);
+        if (csv != null) csv.println("benchmark,size,distribution,samples,mean_ns_per_op,stdev_ns_per_op,min_ns_per_op,max_ns_per_op,bytes_per_op");
+        System.out.printf("%-42s %10s %-18s %8s %16s %14s %14s%n", "Benchmark", "size", "distribution", "samples", "ns/op", "stdev", "B/op");
+
+        for (Benchmark benchmark : BENCHMARKS.values()) {
+            if (!filters.isEmpty() && filters.stream().noneMatch(benchmark.name::contains)) continue;
+            int[] sizes = sizeOverride != null ? sizeOverride : benchmark.sizes;
+            String[] distributions = distributionOverride != null ? distributionOverride : benchmark.distributions;
+            for (int size : sizes) {
+                for (String distribution : distributions) {
+                    if (!Arrays.asList(benchmark.distributions).contains(distribution)) continue;
+                    List<double[]> samples = new ArrayList<>();
+                    if (forks == 0) {
+                        samples.addAll(Arrays.asList(measure(benchmark, size, distribution, warmup, iterations, iterationMillis)));
+                    } else {
+                        for (int f = 0; f < forks; f++) {
+                            samples.addAll(runForked(benchmark, size, distribution, warmup, iterations, iterationMillis, jvmArgs));
+                        }
+                    }
+                    report(benchmark.name, size, distribution, samples, csv);
+                }
+            }
+        }
+        if (csv != null) csv.close();
+    }
+
+    private static void report(String name, int size, String distribution, List<double[]> results, PrintWriter csv) {
+        double[] samples = results.stream().mapToDouble(r -> r[0]).toArray();
+        double bytesPerOp = results.stream().mapToDouble(r -> r[1]).average().orElse(Double.NaN);
+        double mean = Arrays.stream(samples).average().orElse(Double.NaN);
+        double variance = 0;
+        for (double s : samples) variance += (s - mean) * (s - mean);
+        double stdev = samples.length > 1 ? Math.sqrt(variance / (samples.length - 1)) : 0;
+        double min = Arrays.stream(samples).min().orElse(Double.NaN);
+        double max = Arrays.stream(samples).max().orElse(Double.NaN);
+
+        System.out.printf("%-42s %10d %-18s %8d %16.1f %14.1f %14.1f%n", name, size, distribution, samples.length, mean, stdev, bytesPerOp);
+        if (csv != null) {
+            csv.printf("%s,%d,%s,%d,%.3f,%.3f,%.3f,%.3f,%.1f%n", name, size, distribution, samples.length, mean, stdev, min, max, bytesPerOp);
+            csv.flush();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package Benchmarks;
+import DSA1.MatrixKernels;
+import DSA1.Strassen;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Finds the Strassen crossover size for this machine.
+ *
+ * For each matrix size n, the classic blocked kernel and Strassen with every power-of-two
+ * crossover below n are timed (warm-up runs discarded, median of the measured runs kept).
+ * The recommended crossover is the one with the lowest geometric mean of
+ * Strassen time / classic time over all sizes, so it is not tuned to a single n.
+ *
+ * Usage:
+ *   java -cp out Benchmarks.StrassenCrossover [-s 256,512,1024,2048] [-wi 2] [-i 5]
+ *
+ * Then run with -Dstrassen.crossover=N to make the result the default in DSA1.Strassen.
+ */
+public class StrassenCrossover {
+
+    private static final long SEED = 42L;
+    private static final int MIN_CROSSOVER = 16;
+
+    /** Blackhole for the results. */
+    private static volatile double sink;
+
+    public static void main(String[] args) {
+        int[] sizes = {256, 512, 1024, 2048};
+        int warmup = 2, iterations = 5;
+        for (int a = 0; a < args.length; a++) {
+            switch (args[a]) {
+                case "-s": sizes = Arrays.stream(args[++a].split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray(); break;
+                case "-wi": warmup = Integer.parseInt(args[++a]); break;
+                case "-i": iterations = Integer.parseInt(args[++a]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[a]);
+            }
+        }
+
+        List<Integer> candidates = new ArrayList<>();
+        int largest = Arrays.stream(sizes).max().orElse(0);
+        for (int c = MIN_CROSSOVER; c < largest; c *= 2) candidates.add(c);
+        // Sum of log(strassen / classic) per candidate, and how many sizes it was measured on.
+        double[] logRatioSum = new double[candidates.size()];
+        int[] measured = new int[candidates.size()];
+
+        Random random = new Random(SEED);
+        System.out.printf("%8s %10s %14s %10s%n", "size", "crossover", "ms", "vs classic");
+        for (int n : sizes) {
+            double[] A = randomMatrix(n, random), B = randomMatrix(n, random);
+            final int size = n;
+            double classic = medianMillis(() -> MatrixKernels.multiply(A, B, size, size, size), warmup, iterations);
+            System.out.printf("%8d %10s %14.2f %10s%n", n, "classic", classic, "1.00");
+            double bestTime = classic;
+            int best = n;
+            for (int c = 0; c < candidates.size(); c++) {
+                int crossover = candidates.get(c);
+                if (crossover >= n) break;
+                double time = medianMillis(() -> Strassen.multiply(A, B, size, crossover), warmup, iterations);
+                System.out.printf("%8d %10d %14.2f %10.2f%n", n, crossover, time, time / classic);
+                logRatioSum[c] += Math.log(time / classic);
+                measured[c]++;
+                if (time < bestTime) {
+                    bestTime = time;
+                    best = crossover;
+                }
+            }
+            Strassen.releaseWorkspace();
+            System.out.println(best == n
+                    ? "  n=" + n + ": classic kernel is fastest"
+                    : "  n=" + n + ": best crossover " + best + String.format(" (%.2fx faster than classic)", classic / bestTime));
+        }
+
+        int recommended = -1;
+        double bestMean = 0;
+        for (int c = 0; c < candidates.size(); c++) {
+            // A candidate is only measured on sizes larger than itself; average over those.
+            if (measured[c] == 0) continue;
+            double mean = logRatioSum[c] / measured[c];
+            if (recommended < 0 || mean < bestMean) {
+                bestMean = mean;
+                recommended = candidates.get(c);
+            }
+        }
+        if (recommended < 0 || bestMean >= 0) {
+            System.out.println("Strassen did not beat the classic kernel at these sizes; use a crossover above "
+                    + largest + " (e.g. -Dstrassen.crossover=" + largest + ").");
+        } else {
+            System.out.printf("Recommended crossover: %d (geometric mean %.2fx of classic time); run with -Dstrassen.crossover=%d%n",
+                    recommended, Math.exp(bestMean), recommended);
+        }
+    }
+
+    private static double medianMillis(Supplier<double[]> body, int warmup, int iterations) {
+        for (int w = 0; w < warmup; w++) sink += body.get()[0];
+        double[] times = new double[Math.max(1, iterations)];
+        for (int i = 0; i < times.length; i++) {
+            long start = System.nanoTime();
+            double[] C = body.get();
+            times[i] = (System.nanoTime() - start) / 1e6;
+            sink += C[0];
+        }
+        Arrays.sort(times);
+        return times[times.length / 2];
+    }
+
+    private static double[] randomMatrix(int n, Random random) {
+        double[] M = new double[n * n];
+        for (int i = 0; i < M.length; i++) M[i] = random.nextDouble() * 2 - 1;
+        return M;
+    }
+}
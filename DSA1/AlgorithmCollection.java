@@ -1,6 +1,12 @@
 package DSA1;
-import java.util.Scanner;
+import IO.FastReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * A collection of classic algorithms, each with:
@@ -215,20 +221,20 @@ public class AlgorithmCollection {
     // --- 4. Matrix Multiplication ---
     /**
      * Algorithm (Step by Step):
-     * 1. For each row i of matrix A and each column j of matrix B:
+     * 1. For each row i of the m x k matrix A and each column j of the k x n matrix B:
      * 2. Initialize C[i][j] to 0.
-     * 3. For each k from 0 to n-1, multiply A[i][k] by B[k][j] and add to C[i][j].
+     * 3. For each p from 0 to k-1, multiply A[i][p] by B[p][j] and add to C[i][j].
      * 4. Repeat for all i and j.
      * 5. Return the resulting matrix C.
      *
      * Pseudocode:
      * --------------------------
      * procedure MatrixMultiply(A, B)
-     *     for i = 0 to n-1 do
+     *     for i = 0 to m-1 do
      *         for j = 0 to n-1 do
      *             C[i][j] = 0
-     *             for k = 0 to n-1 do
-     *                 C[i][j] = C[i][j] + A[i][k] * B[k][j]
+     *             for p = 0 to k-1 do
+     *                 C[i][j] = C[i][j] + A[i][p] * B[p][j]
      *     return C
      * end procedure
      * --------------------------
@@ -240,7 +246,7 @@ public class AlgorithmCollection {
      *            |
      *            v
      *   +-------------------+
-     *   | for i = 0 to n-1  |
+     *   | for i = 0 to m-1  |
      *   +-------------------+
      *            |
      *            v
@@ -255,12 +261,12 @@ public class AlgorithmCollection {
      *            |
      *            v
      *   +-------------------+
-     *   | for k = 0 to n-1  |
+     *   | for p = 0 to k-1  |
      *   +-------------------+
      *            |
      *            v
      *   +--------------------------------------+
-     *   | C[i][j] += A[i][k] * B[k][j]         |
+     *   | C[i][j] += A[i][p] * B[p][j]         |
      *   +--------------------------------------+
      *            |
      *            v
@@ -271,16 +277,16 @@ public class AlgorithmCollection {
      * Java Implementation:
      */
     public static double[][] matrixMultiply(double[][] A, double[][] B) {
-        if (A == null || B == null || A.length == 0 || A.length != B.length || A[0].length != A.length) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) {
             return null;
         }
-        int n = A.length;
-        double[][] C = new double[n][n];
-        for (int i = 0; i < n; i++) {
+        int m = A.length, k = B.length, n = B[0].length;
+        double[][] C = new double[m][n];
+        for (int i = 0; i < m; i++) {
             for (int j = 0; j < n; j++) {
                 C[i][j] = 0.0;
-                for (int k = 0; k < n; k++) {
-                    C[i][j] += A[i][k] * B[k][j];
+                for (int p = 0; p < k; p++) {
+                    C[i][j] += A[i][p] * B[p][j];
                 }
             }
         }
@@ -288,9 +294,9 @@ public class AlgorithmCollection {
     }
     /**
      * Time Complexity:
-     * - Best Case: O(n^3)
-     * - Worst Case: O(n^3)
-     * - Average Case: O(n^3)
+     * - Best Case: O(m * k * n), O(n^3) for square matrices
+     * - Worst Case: O(m * k * n)
+     * - Average Case: O(m * k * n)
      */
 
     // --- 5. Count Binary Digits (Iterative) ---
@@ -540,7 +546,7 @@ public class AlgorithmCollection {
 
     // --- Main Method for Demonstration ---
     public static void main(String[] args) {
-        Scanner scanner = new Scanner(System.in);
+        FastReader reader = new FastReader(System.in);
         int choice = -1;
         while (choice != 0) {
             System.out.println("\n--- Algorithm Demonstration Menu ---");
@@ -552,39 +558,42 @@ public class AlgorithmCollection {
             System.out.println("6. Factorial (Recursive)");
             System.out.println("7. Count Binary Digits (Recursive)");
             System.out.println("8. Gaussian Elimination");
+            System.out.println("9. Solve Linear Systems (LU with Partial Pivoting)");
+            System.out.println("10. Sparse Matrix from a Coordinate File");
             System.out.println("0. Exit");
             System.out.print("Enter your choice: ");
             try {
-                choice = scanner.nextInt();
+                choice = reader.nextInt();
                 switch (choice) {
-                    case 1: demoSequentialSearch(scanner); break;
-                    case 2: demoMaxElement(scanner); break;
-                    case 3: demoUniqueElements(scanner); break;
-                    case 4: demoMatrixMultiplication(scanner); break;
-                    case 5: demoBinaryDigitsIterative(scanner); break;
-                    case 6: demoFactorial(scanner); break;
-                    case 7: demoBinaryDigitsRecursive(scanner); break;
-                    case 8: demoGaussianElimination(scanner); break;
+                    case 1: demoSequentialSearch(reader); break;
+                    case 2: demoMaxElement(reader); break;
+                    case 3: demoUniqueElements(reader); break;
+                    case 4: demoMatrixMultiplication(reader); break;
+                    case 5: demoBinaryDigitsIterative(reader); break;
+                    case 6: demoFactorial(reader); break;
+                    case 7: demoBinaryDigitsRecursive(reader); break;
+                    case 8: demoGaussianElimination(reader); break;
+                    case 9: demoLinearSolve(reader); break;
+                    case 10: demoSparseMatrix(reader); break;
                     case 0: System.out.println("Exiting..."); break;
                     default: System.out.println("Invalid choice. Please try again.");
                 }
             } catch (Exception e) {
                 System.out.println("An error occurred: " + e.getMessage());
-                scanner.nextLine(); // Clear invalid input from scanner
+                reader.nextLine(); // Clear invalid input from reader
             }
         }
-        scanner.close();
+        reader.close();
     }
 
     // --- Demonstration Methods ---
-    private static void demoSequentialSearch(Scanner scanner) {
+    private static void demoSequentialSearch(FastReader reader) {
         System.out.print("Enter number of elements in array: ");
-        int n = scanner.nextInt();
-        int[] arr = new int[n];
+        int n = reader.nextInt();
         System.out.println("Enter array elements:");
-        for (int i = 0; i < n; i++) arr[i] = scanner.nextInt();
+        int[] arr = reader.nextInts(n);
         System.out.print("Enter key to search for: ");
-        int key = scanner.nextInt();
+        int key = reader.nextInt();
 
         // Best Case: key at index 0
         long bestStart = System.nanoTime();
@@ -616,12 +625,11 @@ public class AlgorithmCollection {
         System.out.println("Worst Case Time: " + (worstEnd - worstStart) + " ns (O(n))");
     }
 
-    private static void demoMaxElement(Scanner scanner) {
+    private static void demoMaxElement(FastReader reader) {
         System.out.print("Enter number of elements in array: ");
-        int n = scanner.nextInt();
-        int[] arr = new int[n];
+        int n = reader.nextInt();
         System.out.println("Enter array elements:");
-        for (int i = 0; i < n; i++) arr[i] = scanner.nextInt();
+        int[] arr = reader.nextInts(n);
 
         // Best, Average, Worst are all O(n) for this algorithm
         long bestStart = System.nanoTime();
@@ -645,65 +653,59 @@ public class AlgorithmCollection {
         System.out.println("Best/Average/Worst Case Time: " + (bestEnd - bestStart) + " ns (O(n))");
     }
 
-    private static void demoUniqueElements(Scanner scanner) {
+    private static void demoUniqueElements(FastReader reader) {
         System.out.print("Enter number of elements in array: ");
-        int n = scanner.nextInt();
-        int[] arr = new int[n];
+        int n = reader.nextInt();
         System.out.println("Enter array elements:");
-        for (int i = 0; i < n; i++) arr[i] = scanner.nextInt();
+        int[] arr = reader.nextInts(n);
+        System.out.print("Choose method (1 = pairwise, 2 = auto, 3 = hash set, 4 = sort and scan, 5 = bitset): ");
+        int method = reader.nextInt();
+        Distinctness.Strategy strategy = method == 3 ? Distinctness.Strategy.HASH
+                : method == 4 ? Distinctness.Strategy.SORT
+                : method == 5 ? Distinctness.Strategy.BITSET : Distinctness.Strategy.AUTO;
+        Predicate<int[]> check = method == 1 ? AlgorithmCollection::areElementsUnique : a -> Distinctness.allDistinct(a, strategy);
+        String complexity = method == 1 ? "O(n^2)" : method == 4 ? "O(n log n)" : "O(n)";
 
         // Best Case: duplicate at start
         int[] bestArr = Arrays.copyOf(arr, n);
         if (n > 1) bestArr[1] = bestArr[0];
         long bestStart = System.nanoTime();
-        areElementsUnique(bestArr);
+        check.test(bestArr);
         long bestEnd = System.nanoTime();
 
         // Average Case: all unique
         int[] avgArr = new int[n];
         for (int i = 0; i < n; i++) avgArr[i] = i;
         long avgStart = System.nanoTime();
-        areElementsUnique(avgArr);
+        check.test(avgArr);
         long avgEnd = System.nanoTime();
 
         // Worst Case: duplicate at end
         int[] worstArr = Arrays.copyOf(avgArr, n);
         if (n > 1) worstArr[n - 1] = worstArr[0];
         long worstStart = System.nanoTime();
-        areElementsUnique(worstArr);
+        check.test(worstArr);
         long worstEnd = System.nanoTime();
 
         // User run
         System.out.print("Re-enter array elements for your run:\n");
-        for (int i = 0; i < n; i++) arr[i] = scanner.nextInt();
+        arr = reader.nextInts(n);
         long startTime = System.nanoTime();
-        boolean isUnique = areElementsUnique(arr);
+        boolean isUnique = check.test(arr);
         long endTime = System.nanoTime();
 
         if (isUnique) {
             System.out.println("All elements are unique.");
         } else {
             // Find and display unique and duplicate elements
-            java.util.Set<Integer> seen = new java.util.HashSet<>();
-            java.util.Set<Integer> duplicates = new java.util.HashSet<>();
-            java.util.Set<Integer> uniques = new java.util.LinkedHashSet<>();
-            for (int value : arr) {
-                if (!seen.add(value)) {
-                    duplicates.add(value);
-                } else {
-                    uniques.add(value);
-                }
-            }
-            // Remove duplicates from uniques set
-            uniques.removeAll(duplicates);
-
+            Distinctness.Result result = Distinctness.analyze(arr, strategy);
             System.out.print("Unique elements: ");
-            for (int value : uniques) {
+            for (int value : result.uniques) {
                 System.out.print(value + " ");
             }
             System.out.println();
             System.out.print("Duplicate elements: ");
-            for (int value : duplicates) {
+            for (int value : result.duplicates) {
                 System.out.print(value + " ");
             }
             System.out.println();
@@ -711,48 +713,62 @@ public class AlgorithmCollection {
         }
         System.out.println("Run time: " + (endTime - startTime) + " ns");
         System.out.println("Best Case Time: " + (bestEnd - bestStart) + " ns (O(1))");
-        System.out.println("Average Case Time: " + (avgEnd - avgStart) + " ns (O(n^2))");
-        System.out.println("Worst Case Time: " + (worstEnd - worstStart) + " ns (O(n^2))");
+        System.out.println("Average Case Time: " + (avgEnd - avgStart) + " ns (" + complexity + ")");
+        System.out.println("Worst Case Time: " + (worstEnd - worstStart) + " ns (" + complexity + ")");
     }
 
-    private static void demoMatrixMultiplication(Scanner scanner) {
-        System.out.print("Enter the dimension 'n' for the n x n matrices: ");
-        int n = scanner.nextInt();
-        double[][] A = new double[n][n];
-        double[][] B = new double[n][n];
+    private static void demoMatrixMultiplication(FastReader reader) {
+        System.out.print("Enter the dimensions m, k, n (A is m x k, B is k x n): ");
+        int m = reader.nextInt(), k = reader.nextInt(), n = reader.nextInt();
+        double[][] A = new double[m][];
+        double[][] B = new double[k][];
         System.out.println("Enter elements for Matrix A:");
-        for (int i = 0; i < n; i++) for (int j = 0; j < n; j++) A[i][j] = scanner.nextDouble();
+        for (int i = 0; i < m; i++) A[i] = reader.nextDoubles(k);
         System.out.println("Enter elements for Matrix B:");
-        for (int i = 0; i < n; i++) for (int j = 0; j < n; j++) B[i][j] = scanner.nextDouble();
+        for (int i = 0; i < k; i++) B[i] = reader.nextDoubles(n);
+        System.out.print("Choose kernel (1 = naive i-j-k, 2 = cache-blocked flat row-major, 3 = parallel row blocks, 4 = Strassen, "
+                + "5 = SIMD [" + SimdKernels.implementation() + "], 6 = automatic (sparse when density of A < "
+                + SparseMatrix.SPARSE_DENSITY_THRESHOLD + ")): ");
+        int choice = reader.nextInt();
+        if (choice == 4 && (m != k || k != n)) {
+            System.out.println("Strassen needs square matrices; using the cache-blocked kernel.");
+            choice = 2;
+        }
+        BinaryOperator<double[][]> kernel = choice == 6 ? SparseMatrix::multiplyAuto
+                : choice == 5 ? SimdKernels::multiply
+                : choice == 4 ? Strassen::multiply
+                : choice == 3 ? MatrixKernels::parallelMultiply
+                : choice == 2 ? MatrixKernels::multiply : AlgorithmCollection::matrixMultiply;
 
-        // All cases O(n^3)
+        // All cases O(m * k * n)
         long bestStart = System.nanoTime();
-        matrixMultiply(A, B);
+        kernel.apply(A, B);
         long bestEnd = System.nanoTime();
 
         long avgStart = System.nanoTime();
-        matrixMultiply(A, B);
+        kernel.apply(A, B);
         long avgEnd = System.nanoTime();
 
         long worstStart = System.nanoTime();
-        matrixMultiply(A, B);
+        kernel.apply(A, B);
         long worstEnd = System.nanoTime();
 
         long startTime = System.nanoTime();
-        double[][] C = matrixMultiply(A, B);
+        double[][] C = kernel.apply(A, B);
         long endTime = System.nanoTime();
 
         System.out.println("Result Matrix C = A * B:");
-        for (int i = 0; i < n; i++) {
+        for (int i = 0; i < m; i++) {
             System.out.println(Arrays.toString(C[i]));
         }
         System.out.println("Run time: " + (endTime - startTime) + " ns");
-        System.out.println("Best/Average/Worst Case Time: " + (bestEnd - bestStart) + " ns (O(n^3))");
+        System.out.printf("Throughput: %.3f GFLOPS%n", MatrixKernels.gflops(m, k, n, Math.max(1, endTime - startTime)));
+        System.out.println("Best/Average/Worst Case Time: " + (bestEnd - bestStart) + " ns (O(m * k * n))");
     }
 
-    private static void demoBinaryDigitsIterative(Scanner scanner) {
+    private static void demoBinaryDigitsIterative(FastReader reader) {
         System.out.print("Enter a positive integer: ");
-        int n = scanner.nextInt();
+        int n = reader.nextInt();
 
         // Best Case: n = 1
         long bestStart = System.nanoTime();
@@ -778,9 +794,9 @@ public class AlgorithmCollection {
         System.out.println("Average/Worst Case Time: " + (avgEnd - avgStart) + "/" + (worstEnd - worstStart) + " ns (O(log n))");
     }
 
-    private static void demoFactorial(Scanner scanner) {
+    private static void demoFactorial(FastReader reader) {
         System.out.print("Enter a non-negative integer (e.g., 0-20): ");
-        int n = scanner.nextInt();
+        int n = reader.nextInt();
 
         // Best Case: n = 0
         long bestStart = System.nanoTime();
@@ -806,9 +822,9 @@ public class AlgorithmCollection {
         System.out.println("Average/Worst Case Time: " + (avgEnd - avgStart) + "/" + (worstEnd - worstStart) + " ns (O(n))");
     }
 
-    private static void demoBinaryDigitsRecursive(Scanner scanner) {
+    private static void demoBinaryDigitsRecursive(FastReader reader) {
         System.out.print("Enter a positive integer: ");
-        int n = scanner.nextInt();
+        int n = reader.nextInt();
 
         // Best Case: n = 1
         long bestStart = System.nanoTime();
@@ -834,33 +850,35 @@ public class AlgorithmCollection {
         System.out.println("Average/Worst Case Time: " + (avgEnd - avgStart) + "/" + (worstEnd - worstStart) + " ns (O(log n))");
     }
 
-    private static void demoGaussianElimination(Scanner scanner) {
+    private static void demoGaussianElimination(FastReader reader) {
         System.out.print("Enter the number of equations (n): ");
-        int n = scanner.nextInt();
+        int n = reader.nextInt();
         double[][] A = new double[n][n + 1];
         System.out.println("Enter augmented matrix coefficients [A|b]:");
         for (int i = 0; i < n; i++) {
             for (int j = 0; j < n + 1; j++) {
                 System.out.printf("A[%d][%d]: ", i, j);
-                A[i][j] = scanner.nextDouble();
+                A[i][j] = reader.nextDouble();
             }
         }
+        System.out.print("Choose kernel (1 = scalar, 2 = SIMD [" + SimdKernels.implementation() + "]): ");
+        Consumer<double[][]> kernel = reader.nextInt() == 2 ? SimdKernels::gaussianElimination : AlgorithmCollection::gaussianElimination;
 
         // All cases O(n^3)
         long bestStart = System.nanoTime();
-        gaussianElimination(A);
+        kernel.accept(A);
         long bestEnd = System.nanoTime();
 
         long avgStart = System.nanoTime();
-        gaussianElimination(A);
+        kernel.accept(A);
         long avgEnd = System.nanoTime();
 
         long worstStart = System.nanoTime();
-        gaussianElimination(A);
+        kernel.accept(A);
         long worstEnd = System.nanoTime();
 
         long startTime = System.nanoTime();
-        gaussianElimination(A);
+        kernel.accept(A);
         long endTime = System.nanoTime();
 
         System.out.println("Matrix in Row-Echelon Form:");
@@ -873,4 +891,78 @@ public class AlgorithmCollection {
         System.out.println("Run time: " + (endTime - startTime) + " ns");
         System.out.println("Best/Average/Worst Case Time: " + (bestEnd - bestStart) + " ns (O(n^3))");
     }
+
+    private static void demoLinearSolve(FastReader reader) {
+        System.out.print("Enter the number of equations (n): ");
+        int n = reader.nextInt();
+        double[][] A = new double[n][];
+        System.out.println("Enter the coefficient matrix A (n rows of n values):");
+        for (int i = 0; i < n; i++) A[i] = reader.nextDoubles(n);
+        System.out.print("Choose factorization (1 = unblocked, 2 = blocked parallel): ");
+        boolean blocked = reader.nextInt() == 2;
+
+        long factorStart = System.nanoTime();
+        LUDecomposition lu = blocked ? LUDecomposition.factorBlocked(A) : LUDecomposition.factor(A);
+        long factorEnd = System.nanoTime();
+        System.out.println("Factor time: " + (factorEnd - factorStart) + " ns (O(n^3), once)");
+        System.out.printf("Pivot growth: %.3g%n", lu.pivotGrowth());
+        System.out.println("Determinant: " + lu.determinant());
+        if (lu.isSingular()) {
+            System.out.println("The matrix is singular (zero pivot in column " + lu.singularColumn() + "); no unique solution.");
+            return;
+        }
+
+        System.out.print("How many right-hand sides b? ");
+        int r = reader.nextInt();
+        for (int s = 1; s <= r; s++) {
+            System.out.println("Enter right-hand side " + s + " (n values):");
+            double[] b = reader.nextDoubles(n);
+            long solveStart = System.nanoTime();
+            double[] x = lu.solve(b);
+            long solveEnd = System.nanoTime();
+            System.out.println("x = " + Arrays.toString(x));
+            System.out.println("Solve time: " + (solveEnd - solveStart) + " ns (O(n^2) per right-hand side)");
+        }
+    }
+
+    private static void demoSparseMatrix(FastReader reader) {
+        reader.nextLine(); // consume the rest of the menu choice line
+        System.out.print("Enter Matrix Market coordinate file path: ");
+        Path path = Paths.get(reader.nextLine().trim());
+        SparseMatrix A;
+        try {
+            A = SparseMatrix.readCoordinateFile(path);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not load file: " + e.getMessage());
+            return;
+        }
+        System.out.printf("Loaded a %d x %d matrix with %d nonzeros (density %.4f%%)%n",
+                A.rows(), A.cols(), A.nnz(), 100 * A.density());
+
+        double[] ones = new double[A.cols()];
+        Arrays.fill(ones, 1.0);
+        long startTime = System.nanoTime();
+        double[] b = A.multiply(ones);
+        long endTime = System.nanoTime();
+        System.out.println("A * ones: " + (endTime - startTime) + " ns (O(nnz))");
+
+        if (A.rows() == A.cols()) {
+            startTime = System.nanoTime();
+            SparseMatrix square = A.multiply(A);
+            endTime = System.nanoTime();
+            System.out.println("A * A: " + square.nnz() + " nonzeros in " + (endTime - startTime) + " ns (sparse x sparse)");
+
+            startTime = System.nanoTime();
+            double[] x = A.solve(b);
+            endTime = System.nanoTime();
+            if (x == null) {
+                System.out.println("A is singular; A x = b has no unique solution.");
+            } else {
+                double maxError = 0.0;
+                for (double v : x) maxError = Math.max(maxError, Math.abs(v - 1.0));
+                System.out.println("Solved A x = A * ones by sparse elimination in " + (endTime - startTime)
+                        + " ns; max |x - 1| = " + maxError);
+            }
+        }
+    }
 }
\ No newline at end of file
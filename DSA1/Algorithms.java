@@ -1,4 +1,5 @@
 package DSA1;
+import IO.FastReader;
 import java.util.*;
 
 public class Algorithms {
@@ -30,12 +31,11 @@ public class Algorithms {
     //                | Yes   | No
     //                v       v
     //           Return i   Return -1
-    public static void sequentialSearch(Scanner sc) {
+    public static void sequentialSearch(FastReader sc) {
         System.out.print("Enter array size: ");
         int n = sc.nextInt();
-        int[] arr = new int[n];
         System.out.println("Enter " + n + " elements:");
-        for (int i = 0; i < n; i++) arr[i] = sc.nextInt();
+        int[] arr = sc.nextInts(n);
         System.out.print("Enter key to search for: ");
         int k = sc.nextInt();
         int i = 0;
@@ -80,12 +80,11 @@ public class Algorithms {
     //   +-------------------+
     //   |  Return maxval    |
     //   +-------------------+
-    public static void findLargestElement(Scanner sc) {
+    public static void findLargestElement(FastReader sc) {
         System.out.print("Enter array size: ");
         int n = sc.nextInt();
-        int[] arr = new int[n];
         System.out.println("Enter " + n + " elements:");
-        for (int i = 0; i < n; i++) arr[i] = sc.nextInt();
+        int[] arr = sc.nextInts(n);
         int max = arr[0];
         for (int i = 1; i < n; i++) if (arr[i] > max) max = arr[i];
         System.out.println("Largest element: " + max);
@@ -95,6 +94,9 @@ public class Algorithms {
     // Determines whether all the elements in a given array are distinct
     // Input: An array A[0..n-1]
     // Output: Returns "true" if all the elements in A are distinct and "false" otherwise
+    // The pairwise loop below is O(n^2); checkAllDistinct runs Distinctness.analyze instead, which
+    // uses a bitset, a primitive hash set or sort-and-scan (O(n) / O(n log n)) and also lists the
+    // unique and duplicate values in ascending order.
     //
     // Flowchart (ASCII):
     //   +-------------------+
@@ -125,39 +127,29 @@ public class Algorithms {
     //   +-------------------+
     //   |  Return true      |
     //   +-------------------+
-    public static void checkAllDistinct(Scanner sc) {
+    public static void checkAllDistinct(FastReader sc) {
         System.out.print("Enter array size: ");
         int n = sc.nextInt();
-        int[] arr = new int[n];
         System.out.println("Enter " + n + " elements:");
-        for (int i = 0; i < n; i++) arr[i] = sc.nextInt();
-        Set<Integer> seen = new HashSet<>();
-        Set<Integer> duplicates = new LinkedHashSet<>();
-        Set<Integer> uniques = new LinkedHashSet<>();
-        for (int value : arr) {
-            if (!seen.add(value)) {
-                duplicates.add(value);
-            } else {
-                uniques.add(value);
-            }
-        }
-        uniques.removeAll(duplicates);
-        if (duplicates.isEmpty()) {
+        int[] arr = sc.nextInts(n);
+        Distinctness.Result result = Distinctness.analyze(arr);
+        if (result.distinct) {
             System.out.println("All elements are distinct.");
         } else {
             System.out.print("Unique elements: ");
-            for (int value : uniques) System.out.print(value + " ");
+            for (int value : result.uniques) System.out.print(value + " ");
             System.out.println();
             System.out.print("Duplicate elements: ");
-            for (int value : duplicates) System.out.print(value + " ");
+            for (int value : result.duplicates) System.out.print(value + " ");
             System.out.println();
             System.out.println("Not all elements are distinct.");
         }
     }
 
     // ALGORITHM 4: Matrix Multiplication
-    // Multiplies two n-by-n matrices by the definition-based algorithm
-    // Input: Two n-by-n matrices A and B
+    // Multiplies an m-by-k matrix by a k-by-n matrix by the definition-based algorithm,
+    // or by the cache-blocked / parallel row-block kernels in MatrixKernels
+    // Input: An m-by-k matrix A and a k-by-n matrix B
     // Output: Matrix C = AB
     //
     // Flowchart (ASCII):
@@ -167,7 +159,7 @@ public class Algorithms {
     //            |
     //            v
     //   +-------------------+
-    //   | for i = 0 to n-1  |
+    //   | for i = 0 to m-1  |
     //   +-------------------+
     //            |
     //            v
@@ -182,36 +174,42 @@ public class Algorithms {
     //            |
     //            v
     //   +---------------------------+
-    //   | for k = 0 to n-1          |
+    //   | for p = 0 to k-1          |
     //   +---------------------------+
     //            |
     //            v
     //   +---------------------------+
-    //   | C[i][j] += A[i][k]*B[k][j]|
+    //   | C[i][j] += A[i][p]*B[p][j]|
     //   +---------------------------+
     //            |
     //            v
     //   +-------------------+
     //   |   Return C        |
     //   +-------------------+
-    public static void multiplyMatrices(Scanner sc) {
-        System.out.print("Enter matrix size n: ");
-        int n = sc.nextInt();
-        int[][] A = new int[n][n], B = new int[n][n], C = new int[n][n];
+    public static void multiplyMatrices(FastReader sc) {
+        System.out.print("Enter dimensions m, k, n (A is m x k, B is k x n): ");
+        int m = sc.nextInt(), k = sc.nextInt(), n = sc.nextInt();
+        int[][] A = new int[m][], B = new int[k][], C = new int[m][n];
         System.out.println("Enter Matrix A:");
-        for (int i = 0; i < n; i++)
-            for (int j = 0; j < n; j++)
-                A[i][j] = sc.nextInt();
+        for (int i = 0; i < m; i++)
+            A[i] = sc.nextInts(k);
 
         System.out.println("Enter Matrix B:");
-        for (int i = 0; i < n; i++)
-            for (int j = 0; j < n; j++)
-                B[i][j] = sc.nextInt();
+        for (int i = 0; i < k; i++)
+            B[i] = sc.nextInts(n);
 
-        for (int i = 0; i < n; i++)
-            for (int j = 0; j < n; j++)
-                for (int k = 0; k < n; k++)
-                    C[i][j] += A[i][k] * B[k][j];
+        System.out.print("Choose kernel (1 = definition-based, 2 = cache-blocked, 3 = parallel): ");
+        int kernel = sc.nextInt();
+        if (kernel == 3 && m > 0 && k > 0) {
+            C = MatrixKernels.parallelMultiply(A, B);
+        } else if (kernel == 2 && m > 0 && k > 0) {
+            C = MatrixKernels.multiply(A, B);
+        } else {
+            for (int i = 0; i < m; i++)
+                for (int j = 0; j < n; j++)
+                    for (int p = 0; p < k; p++)
+                        C[i][j] += A[i][p] * B[p][j];
+        }
 
         System.out.println("Result Matrix C:");
         for (int[] row : C) {
@@ -244,7 +242,7 @@ public class Algorithms {
     //   n = n/2  Return count
     //   count++
     //   (loop back to n > 0)
-    public static void countBinaryDigits(Scanner sc) {
+    public static void countBinaryDigits(FastReader sc) {
         System.out.print("Enter a positive number: ");
         int n = sc.nextInt();
 
@@ -279,7 +277,7 @@ public class Algorithms {
         return n * factorial(n - 1);
     }
 
-    public static void runFactorial(Scanner sc) {
+    public static void runFactorial(FastReader sc) {
         System.out.print("Enter n: ");
         int n = sc.nextInt();
         System.out.println("Factorial of " + n + " is " + factorial(n));
@@ -314,7 +312,7 @@ public class Algorithms {
         towerOfHanoi(n - 1, aux, src, dest);
     }
 
-    public static void runHanoi(Scanner sc) {
+    public static void runHanoi(FastReader sc) {
         System.out.print("Enter number of disks: ");
         int n = sc.nextInt();
         towerOfHanoi(n, 'A', 'B', 'C');
@@ -322,7 +320,7 @@ public class Algorithms {
 
     // Main method with menu
     public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+        FastReader sc = new FastReader(System.in);
         int choice;
         do {
             System.out.println("\n--- Algorithm Menu ---");
@@ -335,11 +333,14 @@ public class Algorithms {
             System.out.println("7. Tower of Hanoi (Recursive)");
             System.out.println("0. Exit");
             System.out.print("Enter your choice: ");
-            while (!sc.hasNextInt()) {
-                System.out.print("Please enter a valid number: ");
-                sc.next();
+            while (true) {
+                try {
+                    choice = sc.nextInt();
+                    break;
+                } catch (InputMismatchException e) {
+                    System.out.print("Please enter a valid number: ");
+                }
             }
-            choice = sc.nextInt();
             switch (choice) {
                 case 1:
                     sequentialSearch(sc);
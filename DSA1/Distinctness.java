@@ -0,0 +1,189 @@
+package DSA1;
+import PrimitiveCollections.IntBitSet;
+import PrimitiveCollections.IntHashSet;
+import PrimitiveCollections.IntIntHashMap;
+import java.util.Arrays;
+
+/**
+ * Element distinctness in O(n) or O(n log n), without boxing.
+ *
+ * AlgorithmCollection.areElementsUnique compares every pair, O(n^2); a HashSet<Integer>
+ * is O(n) but allocates an Integer and a table node per element. The strategies here work on
+ * int arrays only:
+ * - BITSET: an IntBitSet with one bit per value in [min, max]; O(n + range / 64), the
+ *   fastest when the values are dense in a bounded range.
+ * - HASH: a PrimitiveCollections.IntHashSet (open addressing, linear probing, at most half
+ *   full), or for analyze an IntIntHashMap counting each value; O(n) expected for any values.
+ * - SORT: sort a copy and compare neighbours; O(n log n), but no random memory access.
+ * AUTO picks one from n and the value range (see choose).
+ *
+ * Duplicates and uniques are returned as sorted int arrays whatever strategy is used, so the
+ * result does not depend on the strategy.
+ */
+public class Distinctness {
+
+    public enum Strategy { AUTO, BITSET, HASH, SORT }
+
+    /** Below this size sorting a copy beats setting up a table. */
+    private static final int SMALL_INPUT = 32;
+    /** BITSET is used while the bitset is at most this many bits per element (8 bytes, like the hash table). */
+    private static final long BITS_PER_ELEMENT = 64;
+
+    /** Outcome of analyze. */
+    public static class Result {
+        public final boolean distinct;
+        /** Values that occur more than once, ascending. */
+        public final int[] duplicates;
+        /** Values that occur exactly once, ascending. */
+        public final int[] uniques;
+        /** The strategy that actually ran. */
+        public final Strategy strategy;
+
+        Result(int[] duplicates, int[] uniques, Strategy strategy) {
+            this.distinct = duplicates.length == 0;
+            this.duplicates = duplicates;
+            this.uniques = uniques;
+            this.strategy = strategy;
+        }
+    }
+
+    /**
+     * Chooses a strategy: SORT for tiny inputs, BITSET when max - min + 1 is at most
+     * BITS_PER_ELEMENT * n (so the bitset is no bigger than a hash table), HASH otherwise.
+     */
+    public static Strategy choose(int[] arr) {
+        if (arr.length <= SMALL_INPUT) return Strategy.SORT;
+        long range = range(arr);
+        return range <= Math.min(BITS_PER_ELEMENT * arr.length, Integer.MAX_VALUE) ? Strategy.BITSET : Strategy.HASH;
+    }
+
+    /** True if no value occurs twice; stops at the first repeat. */
+    public static boolean allDistinct(int[] arr) {
+        return allDistinct(arr, Strategy.AUTO);
+    }
+
+    public static boolean allDistinct(int[] arr, Strategy strategy) {
+        if (arr == null || arr.length < 2) return true;
+        strategy = resolve(arr, strategy);
+        switch (strategy) {
+            case BITSET: {
+                int min = min(arr);
+                IntBitSet seen = new IntBitSet((int) range(arr));
+                for (int v : arr) {
+                    if (!seen.add(v - min)) return false;
+                }
+                return true;
+            }
+            case HASH: {
+                IntHashSet seen = new IntHashSet(arr.length);
+                for (int v : arr) {
+                    if (!seen.add(v)) return false;
+                }
+                return true;
+            }
+            default: {
+                int[] sorted = arr.clone();
+                Arrays.sort(sorted);
+                for (int i = 1; i < sorted.length; i++) {
+                    if (sorted[i] == sorted[i - 1]) return false;
+                }
+                return true;
+            }
+        }
+    }
+
+    /** Finds every duplicated and every unique value with the AUTO strategy. */
+    public static Result analyze(int[] arr) {
+        return analyze(arr, Strategy.AUTO);
+    }
+
+    public static Result analyze(int[] arr, Strategy strategy) {
+        if (arr == null) arr = new int[0];
+        strategy = resolve(arr, strategy);
+        switch (strategy) {
+            case BITSET: return analyzeBitset(arr);
+            case HASH: return analyzeHash(arr);
+            default: return analyzeSort(arr);
+        }
+    }
+
+    private static Result analyzeBitset(int[] arr) {
+        if (arr.length == 0) return new Result(new int[0], new int[0], Strategy.BITSET);
+        int min = min(arr);
+        int bits = (int) range(arr);
+        IntBitSet seen = new IntBitSet(bits);
+        IntBitSet repeated = new IntBitSet(bits);
+        for (int v : arr) {
+            if (!seen.add(v - min)) repeated.set(v - min);
+        }
+        // Both sets are walked in increasing order, so the outputs come out sorted.
+        int[] duplicates = repeated.toArray();
+        int[] uniques = new int[seen.cardinality() - duplicates.length];
+        int u = 0;
+        for (int offset = seen.nextSetBit(0); offset >= 0; offset = seen.nextSetBit(offset + 1)) {
+            if (!repeated.get(offset)) uniques[u++] = min + offset;
+        }
+        for (int i = 0; i < duplicates.length; i++) duplicates[i] += min;
+        return new Result(duplicates, uniques, Strategy.BITSET);
+    }
+
+    private static Result analyzeHash(int[] arr) {
+        IntIntHashMap counts = new IntIntHashMap(arr.length);
+        int repeated = 0;
+        for (int v : arr) {
+            // A previous count of 1 means v has just become a duplicate.
+            if (counts.addTo(v, 1) == 1) repeated++;
+        }
+        int[] values = counts.keys();
+        Arrays.sort(values);
+        int[] duplicates = new int[repeated];
+        int[] uniques = new int[values.length - repeated];
+        int d = 0, u = 0;
+        for (int v : values) {
+            if (counts.get(v) > 1) duplicates[d++] = v; else uniques[u++] = v;
+        }
+        return new Result(duplicates, uniques, Strategy.HASH);
+    }
+
+    private static Result analyzeSort(int[] arr) {
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        int[] duplicates = new int[sorted.length / 2];
+        int[] uniques = new int[sorted.length];
+        int d = 0, u = 0;
+        for (int i = 0; i < sorted.length; ) {
+            int j = i + 1;
+            while (j < sorted.length && sorted[j] == sorted[i]) j++;
+            if (j - i > 1) duplicates[d++] = sorted[i]; else uniques[u++] = sorted[i];
+            i = j;
+        }
+        return new Result(Arrays.copyOf(duplicates, d), Arrays.copyOf(uniques, u), Strategy.SORT);
+    }
+
+    private static int min(int[] arr) {
+        int min = Integer.MAX_VALUE;
+        for (int v : arr) min = Math.min(min, v);
+        return min;
+    }
+
+    /**
+     * AUTO becomes choose(arr); BITSET falls back to HASH when max - min is too large to index
+     * an IntBitSet (wider than 2^31 values).
+     */
+    private static Strategy resolve(int[] arr, Strategy strategy) {
+        if (strategy == Strategy.AUTO) return choose(arr);
+        if (strategy == Strategy.BITSET && range(arr) > Integer.MAX_VALUE) return Strategy.HASH;
+        return strategy;
+    }
+
+    /** max - min + 1 as a long (up to 2^32), or 0 for an empty array. */
+    private static long range(int[] arr) {
+        if (arr.length == 0) return 0;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int v : arr) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        return (long) max - min + 1;
+    }
+}
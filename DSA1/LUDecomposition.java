@@ -0,0 +1,294 @@
+package DSA1;
+
+/**
+ * LU decomposition with partial pivoting: P A = L U, where P is a row permutation, L is unit
+ * lower triangular and U is upper triangular.
+ *
+ * Unlike AlgorithmCollection.gaussianElimination, which eliminates one augmented system in
+ * place, the factors are kept: factoring costs O(n^3) once, and every right-hand side after
+ * that is solved in O(n^2) by a forward and a back substitution. Problems are reported as
+ * values instead of printed: isSingular / singularColumn say whether (and where) a pivot
+ * vanished, and pivotGrowth gives the growth factor max|U| / max|A|, which bounds how much
+ * rounding error the elimination can have amplified.
+ *
+ * L and U share one flat row-major array (the unit diagonal of L is not stored); the row
+ * updates run through SimdKernels.axpy, so they are vectorized when the Vector API is available.
+ */
+public class LUDecomposition {
+
+    /** Columns per panel in factorBlocked; a 128-wide panel of L21 and U12 fits in L2. */
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    /** Below this size the blocked algorithm has no tiles worth parallelizing. */
+    private static final int BLOCKED_MIN_SIZE = 256;
+
+    private final int n;
+    /** L below the diagonal, U on and above it, row-major. */
+    private final double[] lu;
+    /** Row i of P A is row pivot[i] of A. */
+    private final int[] pivot;
+    private final int swaps;
+    private final int singularColumn;
+    private final double pivotGrowth;
+
+    private LUDecomposition(int n, double[] lu, int[] pivot, int swaps, int singularColumn, double pivotGrowth) {
+        this.n = n;
+        this.lu = lu;
+        this.pivot = pivot;
+        this.swaps = swaps;
+        this.singularColumn = singularColumn;
+        this.pivotGrowth = pivotGrowth;
+    }
+
+    /**
+     * LU Decomposition with Partial Pivoting
+     * Algorithm:
+     * 1. For each column i, find the row p >= i with the largest |A[p][i]| and swap rows i and p.
+     * 2. If that pivot is zero (to within rounding), record column i as singular and go on.
+     * 3. Otherwise, for each row j below i, store l = A[j][i] / A[i][i] in L and subtract
+     *    l * row i from row j.
+     * Time Complexity:
+     * - Best Case: O(n^3)
+     * - Worst Case: O(n^3)
+     * - Average Case: O(n^3)
+     * The input is copied, not modified.
+     */
+    public static LUDecomposition factor(double[][] A) {
+        int n = checkSquare(A);
+        double[] lu = MatrixKernels.flatten(A);
+        int[] pivot = identity(n);
+        double maxInput = maxAbs(lu);
+        int[] state = {0, -1};
+        factorPanel(lu, n, pivot, 0, n, tolerance(n, maxInput), state, new double[n]);
+        return new LUDecomposition(n, lu, pivot, state[0], state[1], growth(lu, n, maxInput));
+    }
+
+    public static LUDecomposition factorBlocked(double[][] A) {
+        return factorBlocked(A, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Blocked Right-Looking LU Decomposition (parallel)
+     * Algorithm, for each panel of nb columns [k0, k1):
+     * 1. Factor the tall panel A[k0..n)[k0..k1) with partial pivoting, swapping whole rows.
+     * 2. Solve L11 U12 = A12 for the block row U12 = A[k0..k1)[k1..n).
+     * 3. Update the trailing matrix A22 -= L21 U12. This is a matrix multiplication with
+     *    (n - k1) x nb x (n - k1) work: it runs the blocked multiply kernel on row tiles of A22
+     *    in parallel across the fork/join pool.
+     * Time Complexity:
+     * - Best Case: O(n^3)
+     * - Worst Case: O(n^3)
+     * - Average Case: O(n^3)
+     * Same factors, pivots and flop count as factor (bit-identical: every element receives its
+     * updates in the same order); all but O(n^2 nb) of the flops are in step 3, which is
+     * cache-blocked, vectorized and parallel instead of one row update at a time.
+     */
+    public static LUDecomposition factorBlocked(double[][] A, int blockSize) {
+        if (blockSize < 1) throw new IllegalArgumentException("Block size must be at least 1.");
+        int n = checkSquare(A);
+        if (n < BLOCKED_MIN_SIZE) return factor(A);
+        double[] lu = MatrixKernels.flatten(A);
+        int[] pivot = identity(n);
+        double maxInput = maxAbs(lu);
+        double tolerance = tolerance(n, maxInput);
+        int[] state = {0, -1};
+        double[] tmp = new double[n];
+        // -L21, packed row-major so the multiply kernel reads it with unit stride.
+        double[] negL21 = new double[n * Math.min(blockSize, n)];
+
+        for (int k0 = 0; k0 < n; k0 += blockSize) {
+            int k1 = Math.min(k0 + blockSize, n);
+            int kb = k1 - k0;
+            factorPanel(lu, n, pivot, k0, k1, tolerance, state, tmp);
+            if (k1 == n) break;
+            int rest = n - k1;
+
+            // U12: forward substitution with the unit lower triangle L11, a row at a time.
+            for (int i = k0 + 1; i < k1; i++) {
+                for (int j = k0; j < i; j++) {
+                    double l = lu[i * n + j];
+                    if (l != 0.0) SimdKernels.axpy(-l, lu, j * n + k1, lu, i * n + k1, rest);
+                }
+            }
+
+            for (int r = 0; r < rest; r++) {
+                int row = (k1 + r) * n + k0;
+                for (int c = 0; c < kb; c++) negL21[r * kb + c] = -lu[row + c];
+            }
+            final int u12 = k0 * n + k1, a22 = k1 * n + k1;
+            MatrixKernels.parallelRows(rest, kb, rest,
+                    (lo, hi) -> SimdKernels.multiplyStrided(negL21, 0, kb, lu, u12, n, lu, a22, n, kb, rest, lo, hi));
+        }
+        return new LUDecomposition(n, lu, pivot, state[0], state[1], growth(lu, n, maxInput));
+    }
+
+    /**
+     * Unblocked LU with partial pivoting of columns [k0, k1) over rows [k0, n). Whole rows
+     * are swapped, so L to the left and the not-yet-factored columns to the right move too;
+     * eliminations only touch the panel columns. state holds {swaps, first singular column}.
+     */
+    private static void factorPanel(double[] lu, int n, int[] pivot, int k0, int k1, double tolerance, int[] state, double[] tmp) {
+        for (int i = k0; i < k1; i++) {
+            int p = i;
+            for (int r = i + 1; r < n; r++) {
+                if (Math.abs(lu[r * n + i]) > Math.abs(lu[p * n + i])) p = r;
+            }
+            if (p != i) {
+                System.arraycopy(lu, i * n, tmp, 0, n);
+                System.arraycopy(lu, p * n, lu, i * n, n);
+                System.arraycopy(tmp, 0, lu, p * n, n);
+                int t = pivot[i];
+                pivot[i] = pivot[p];
+                pivot[p] = t;
+                state[0]++;
+            }
+            double d = lu[i * n + i];
+            if (Math.abs(d) <= tolerance) {
+                if (state[1] < 0) state[1] = i;
+                // Nothing to eliminate: the column is zero to working precision.
+                for (int j = i + 1; j < n; j++) lu[j * n + i] = 0.0;
+                continue;
+            }
+            for (int j = i + 1; j < n; j++) {
+                double l = lu[j * n + i] / d;
+                lu[j * n + i] = l;
+                if (l != 0.0) SimdKernels.axpy(-l, lu, i * n + i + 1, lu, j * n + i + 1, k1 - i - 1);
+            }
+        }
+    }
+
+    /**
+     * Solves A x = b in O(n^2). Returns null if A is singular.
+     */
+    public double[] solve(double[] b) {
+        if (b.length != n) throw new IllegalArgumentException("Right-hand side must have " + n + " entries.");
+        if (isSingular()) return null;
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) x[i] = b[pivot[i]];
+        // Forward substitution with the unit lower triangle: L y = P b.
+        for (int i = 1; i < n; i++) {
+            x[i] -= SimdKernels.dot(lu, i * n, x, 0, i);
+        }
+        // Back substitution with the upper triangle: U x = y.
+        for (int i = n - 1; i >= 0; i--) {
+            x[i] = (x[i] - SimdKernels.dot(lu, i * n + i + 1, x, i + 1, n - i - 1)) / lu[i * n + i];
+        }
+        return x;
+    }
+
+    /**
+     * Solves A X = B for an n x r matrix B, i.e. r right-hand sides (one per column) at once,
+     * in O(n^2 r). Returns null if A is singular.
+     * Rows of X are updated as whole vectors of length r, so the work per row is unit-stride.
+     */
+    public double[][] solve(double[][] B) {
+        if (B.length != n) throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        if (isSingular()) return null;
+        int r = n == 0 ? 0 : B[0].length;
+        double[] X = new double[n * r];
+        for (int i = 0; i < n; i++) {
+            if (B[pivot[i]].length != r) throw new IllegalArgumentException("Right-hand side rows must all have the same length.");
+            System.arraycopy(B[pivot[i]], 0, X, i * r, r);
+        }
+        for (int i = 1; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                double l = lu[i * n + j];
+                if (l != 0.0) SimdKernels.axpy(-l, X, j * r, X, i * r, r);
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = i + 1; j < n; j++) {
+                double u = lu[i * n + j];
+                if (u != 0.0) SimdKernels.axpy(-u, X, j * r, X, i * r, r);
+            }
+            double d = lu[i * n + i];
+            for (int c = 0; c < r; c++) X[i * r + c] /= d;
+        }
+        return MatrixKernels.unflatten(X, n, r);
+    }
+
+    /** True if a pivot vanished, i.e. A is singular to working precision. */
+    public boolean isSingular() {
+        return singularColumn >= 0;
+    }
+
+    /** The first column whose pivot vanished, or -1 if A is nonsingular. */
+    public int singularColumn() {
+        return singularColumn;
+    }
+
+    /**
+     * The growth factor max|U[i][j]| / max|A[i][j]|. With partial pivoting it is usually small;
+     * a large value means the solution may have lost that many times the usual rounding accuracy.
+     */
+    public double pivotGrowth() {
+        return pivotGrowth;
+    }
+
+    /** det(A), the product of the pivots with the sign of the row permutation; 0 if singular. */
+    public double determinant() {
+        if (isSingular()) return 0.0;
+        double det = swaps % 2 == 0 ? 1.0 : -1.0;
+        for (int i = 0; i < n; i++) det *= lu[i * n + i];
+        return det;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** The row permutation: row i of P A is row pivots()[i] of A. */
+    public int[] pivots() {
+        return pivot.clone();
+    }
+
+    /** The unit lower triangular factor L. */
+    public double[][] lower() {
+        double[][] L = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(lu, i * n, L[i], 0, i);
+            L[i][i] = 1.0;
+        }
+        return L;
+    }
+
+    /** The upper triangular factor U. */
+    public double[][] upper() {
+        double[][] U = new double[n][n];
+        for (int i = 0; i < n; i++) System.arraycopy(lu, i * n + i, U[i], i, n - i);
+        return U;
+    }
+
+    private static int checkSquare(double[][] A) {
+        if (A == null) throw new IllegalArgumentException("Matrix must not be null.");
+        for (double[] row : A) {
+            if (row.length != A.length) throw new IllegalArgumentException("Matrix must be square.");
+        }
+        return A.length;
+    }
+
+    private static int[] identity(int n) {
+        int[] pivot = new int[n];
+        for (int i = 0; i < n; i++) pivot[i] = i;
+        return pivot;
+    }
+
+    /** A pivot this small relative to the matrix is rounding noise from a singular matrix. */
+    private static double tolerance(int n, double maxInput) {
+        return n * Math.ulp(maxInput);
+    }
+
+    private static double growth(double[] lu, int n, double maxInput) {
+        double maxU = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) maxU = Math.max(maxU, Math.abs(lu[i * n + j]));
+        }
+        return maxInput == 0.0 ? 1.0 : maxU / maxInput;
+    }
+
+    private static double maxAbs(double[] values) {
+        double max = 0.0;
+        for (double v : values) max = Math.max(max, Math.abs(v));
+        return max;
+    }
+}
@@ -0,0 +1,309 @@
+package DSA1;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * High-performance matrix multiplication kernels on flat, row-major storage.
+ *
+ * The textbook i-j-k loop in AlgorithmCollection.matrixMultiply reads B[k][j] down a column,
+ * touching a different row (and cache line) on every step of the inner loop, and follows
+ * one pointer per row of a double[][]. The kernels here instead:
+ * - store each matrix in one double[] (element (i, j) of an r x c matrix is at i * c + j),
+ *   so rows are contiguous and there is no per-row indirection;
+ * - use i-k-j loop order, so the inner loop streams along a row of B and a row of C with
+ *   unit stride, keeps A[i][k] in a register, and can be auto-vectorized by the JIT
+ *   (the i-j-k order over a transposed B would need a floating-point reduction, which the JIT
+ *   does not vectorize);
+ * - update four rows of C per pass, so every element of B loaded feeds four multiply-adds;
+ * - tile the i, k and j loops so the working set of B and C stays in cache while it is reused.
+ *
+ * Shapes are general: A is m x k, B is k x n and C is m x n.
+ */
+public class MatrixKernels {
+
+    /** Rows of A and C per tile. */
+    static final int BLOCK_I = 64;
+    /** Columns of A / rows of B per tile; a BLOCK_K x BLOCK_J tile of B (256 KB) stays in L2. */
+    static final int BLOCK_K = 128;
+    /** Columns of B and C per tile. */
+    static final int BLOCK_J = 256;
+
+    // --- FLAT STORAGE HELPERS ---
+
+    /** Copies a rectangular double[][] into a new row-major double[]. */
+    public static double[] flatten(double[][] M) {
+        int rows = M.length, cols = rows == 0 ? 0 : M[0].length;
+        double[] flat = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            if (M[i].length != cols) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+            System.arraycopy(M[i], 0, flat, i * cols, cols);
+        }
+        return flat;
+    }
+
+    /** Copies a row-major double[] back into a double[][] with the given shape. */
+    public static double[][] unflatten(double[] flat, int rows, int cols) {
+        double[][] M = new double[rows][cols];
+        for (int i = 0; i < rows; i++) System.arraycopy(flat, i * cols, M[i], 0, cols);
+        return M;
+    }
+
+    public static int[] flatten(int[][] M) {
+        int rows = M.length, cols = rows == 0 ? 0 : M[0].length;
+        int[] flat = new int[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            if (M[i].length != cols) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+            System.arraycopy(M[i], 0, flat, i * cols, cols);
+        }
+        return flat;
+    }
+
+    public static int[][] unflatten(int[] flat, int rows, int cols) {
+        int[][] M = new int[rows][cols];
+        for (int i = 0; i < rows; i++) System.arraycopy(flat, i * cols, M[i], 0, cols);
+        return M;
+    }
+
+    // --- BLOCKED KERNELS ---
+
+    /**
+     * Blocked Matrix Multiplication (double)
+     * Algorithm:
+     * 1. For each BLOCK_I x BLOCK_K tile of A and BLOCK_K x BLOCK_J tile of B:
+     * 2.   For each group of four rows i of the A tile and each k of the tile, load A[i][k] once.
+     * 3.     Add A[i][k] * B[k][j..j+BLOCK_J) to C[i][j..j+BLOCK_J), a unit-stride loop.
+     * Time Complexity:
+     * - Best Case: O(m * k * n)
+     * - Worst Case: O(m * k * n)
+     * - Average Case: O(m * k * n)
+     * Same operation count as the naive loop; the speed-up comes from cache reuse and vectorization.
+     */
+    public static double[] multiply(double[] A, double[] B, int m, int k, int n) {
+        checkShapes(A.length, B.length, m, k, n);
+        double[] C = new double[m * n];
+        multiplyRows(A, B, C, k, n, 0, m);
+        return C;
+    }
+
+    /**
+     * Accumulates rows [rowStart, rowEnd) of C += A * B. Rows of C are independent, so disjoint
+     * row ranges may be computed concurrently.
+     */
+    static void multiplyRows(double[] A, double[] B, double[] C, int k, int n, int rowStart, int rowEnd) {
+        multiplyStrided(A, 0, k, B, 0, n, C, 0, n, k, n, rowStart, rowEnd);
+    }
+
+    /**
+     * The blocked kernel on sub-matrices of larger row-major arrays: element (i, j) of A is
+     * A[aOff + i * lda + j], and likewise for B and C. Lets Strassen work on quadrant views
+     * without copying them.
+     */
+    static void multiplyStrided(double[] A, int aOff, int lda, double[] B, int bOff, int ldb,
+                                double[] C, int cOff, int ldc, int k, int n, int rowStart, int rowEnd) {
+        for (int ii = rowStart; ii < rowEnd; ii += BLOCK_I) {
+            int iEnd = Math.min(ii + BLOCK_I, rowEnd);
+            for (int kk = 0; kk < k; kk += BLOCK_K) {
+                int kEnd = Math.min(kk + BLOCK_K, k);
+                for (int jj = 0; jj < n; jj += BLOCK_J) {
+                    int jEnd = Math.min(jj + BLOCK_J, n);
+                    int i = ii;
+                    // Four rows of C at a time: each element of B loaded into a register feeds four updates.
+                    for (; i + 3 < iEnd; i += 4) {
+                        int a0 = aOff + i * lda, a1 = a0 + lda, a2 = a1 + lda, a3 = a2 + lda;
+                        int c0 = cOff + i * ldc, c1 = c0 + ldc, c2 = c1 + ldc, c3 = c2 + ldc;
+                        for (int p = kk; p < kEnd; p++) {
+                            double x0 = A[a0 + p], x1 = A[a1 + p], x2 = A[a2 + p], x3 = A[a3 + p];
+                            int bRow = bOff + p * ldb;
+                            for (int j = jj; j < jEnd; j++) {
+                                double b = B[bRow + j];
+                                C[c0 + j] += x0 * b;
+                                C[c1 + j] += x1 * b;
+                                C[c2 + j] += x2 * b;
+                                C[c3 + j] += x3 * b;
+                            }
+                        }
+                    }
+                    for (; i < iEnd; i++) {
+                        int aRow = aOff + i * lda;
+                        int cRow = cOff + i * ldc;
+                        for (int p = kk; p < kEnd; p++) {
+                            double a = A[aRow + p];
+                            int bRow = bOff + p * ldb;
+                            for (int j = jj; j < jEnd; j++) {
+                                C[cRow + j] += a * B[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Blocked Matrix Multiplication (int), the same kernel for Algorithms.multiplyMatrices.
+     * Arithmetic wraps on overflow exactly as in the naive int loop.
+     */
+    public static int[] multiply(int[] A, int[] B, int m, int k, int n) {
+        checkShapes(A.length, B.length, m, k, n);
+        int[] C = new int[m * n];
+        multiplyRows(A, B, C, k, n, 0, m);
+        return C;
+    }
+
+    static void multiplyRows(int[] A, int[] B, int[] C, int k, int n, int rowStart, int rowEnd) {
+        for (int ii = rowStart; ii < rowEnd; ii += BLOCK_I) {
+            int iEnd = Math.min(ii + BLOCK_I, rowEnd);
+            for (int kk = 0; kk < k; kk += BLOCK_K) {
+                int kEnd = Math.min(kk + BLOCK_K, k);
+                for (int jj = 0; jj < n; jj += BLOCK_J) {
+                    int jEnd = Math.min(jj + BLOCK_J, n);
+                    int i = ii;
+                    for (; i + 3 < iEnd; i += 4) {
+                        int a0 = i * k, a1 = a0 + k, a2 = a1 + k, a3 = a2 + k;
+                        int c0 = i * n, c1 = c0 + n, c2 = c1 + n, c3 = c2 + n;
+                        for (int p = kk; p < kEnd; p++) {
+                            int x0 = A[a0 + p], x1 = A[a1 + p], x2 = A[a2 + p], x3 = A[a3 + p];
+                            int bRow = p * n;
+                            for (int j = jj; j < jEnd; j++) {
+                                int b = B[bRow + j];
+                                C[c0 + j] += x0 * b;
+                                C[c1 + j] += x1 * b;
+                                C[c2 + j] += x2 * b;
+                                C[c3 + j] += x3 * b;
+                            }
+                        }
+                    }
+                    for (; i < iEnd; i++) {
+                        int aRow = i * k;
+                        int cRow = i * n;
+                        for (int p = kk; p < kEnd; p++) {
+                            int a = A[aRow + p];
+                            int bRow = p * n;
+                            for (int j = jj; j < jEnd; j++) {
+                                C[cRow + j] += a * B[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // --- PARALLEL KERNELS ---
+
+    /**
+     * Parallel Blocked Matrix Multiplication
+     * Algorithm:
+     * 1. Split the rows of C into halves recursively until a range is small enough for one task.
+     * 2. Each task runs the blocked kernel on its rows; B is shared read-only and the
+     *    row ranges of C are disjoint, so no synchronization is needed beyond the final join.
+     * Time Complexity: O(m * k * n) work, O(m * k * n / p) time on p cores.
+     * Range boundaries are kept on BLOCK_I multiples so every task runs whole tiles.
+     */
+    public static double[] parallelMultiply(double[] A, double[] B, int m, int k, int n) {
+        checkShapes(A.length, B.length, m, k, n);
+        double[] C = new double[m * n];
+        parallelRows(m, k, n, (lo, hi) -> multiplyRows(A, B, C, k, n, lo, hi));
+        return C;
+    }
+
+    public static int[] parallelMultiply(int[] A, int[] B, int m, int k, int n) {
+        checkShapes(A.length, B.length, m, k, n);
+        int[] C = new int[m * n];
+        parallelRows(m, k, n, (lo, hi) -> multiplyRows(A, B, C, k, n, lo, hi));
+        return C;
+    }
+
+    /** Computes one contiguous range of output rows. */
+    interface RowKernel {
+        void rows(int rowStart, int rowEnd);
+    }
+
+    /**
+     * Runs kernel over rows [0, m) of an m x k . k x n product, split into row blocks across the
+     * common fork/join pool. Also used for the trailing-matrix update in blocked LU.
+     */
+    static void parallelRows(int m, int k, int n, RowKernel kernel) {
+        ForkJoinPool.commonPool().invoke(new RowBlockTask(m, k, n, 0, m, kernel));
+    }
+
+    private static class RowBlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        /** Below about a million multiply-adds a task costs more to fork than to run. */
+        private static final long MIN_TASK_WORK = 1L << 20;
+
+        private final int m, k, n, rowStart, rowEnd;
+        private final RowKernel kernel;
+
+        RowBlockTask(int m, int k, int n, int rowStart, int rowEnd, RowKernel kernel) {
+            this.m = m;
+            this.k = k;
+            this.n = n;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.kernel = kernel;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowEnd - rowStart;
+            // Stop splitting at one tile of rows, at the minimum work per task, or once there
+            // are about four tasks per worker for load balancing.
+            int parallelism = ForkJoinPool.getCommonPoolParallelism();
+            long minRows = Math.max(BLOCK_I, Math.max(MIN_TASK_WORK / Math.max(1L, (long) k * n), m / (4L * parallelism)));
+            if (rows <= minRows || rows < 2 * BLOCK_I) {
+                kernel.rows(rowStart, rowEnd);
+                return;
+            }
+            int mid = rowStart + (rows / 2 + BLOCK_I - 1) / BLOCK_I * BLOCK_I;
+            invokeAll(new RowBlockTask(m, k, n, rowStart, mid, kernel),
+                      new RowBlockTask(m, k, n, mid, rowEnd, kernel));
+        }
+    }
+
+    /**
+     * Convenience wrapper for double[][] callers: flattens, multiplies and copies the result back.
+     * Returns null for incompatible shapes, like AlgorithmCollection.matrixMultiply.
+     */
+    public static double[][] multiply(double[][] A, double[][] B) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) return null;
+        int m = A.length, k = B.length, n = B[0].length;
+        return unflatten(multiply(flatten(A), flatten(B), m, k, n), m, n);
+    }
+
+    public static int[][] multiply(int[][] A, int[][] B) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) return null;
+        int m = A.length, k = B.length, n = B[0].length;
+        return unflatten(multiply(flatten(A), flatten(B), m, k, n), m, n);
+    }
+
+    public static double[][] parallelMultiply(double[][] A, double[][] B) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) return null;
+        int m = A.length, k = B.length, n = B[0].length;
+        return unflatten(parallelMultiply(flatten(A), flatten(B), m, k, n), m, n);
+    }
+
+    public static int[][] parallelMultiply(int[][] A, int[][] B) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) return null;
+        int m = A.length, k = B.length, n = B[0].length;
+        return unflatten(parallelMultiply(flatten(A), flatten(B), m, k, n), m, n);
+    }
+
+    /** Floating-point operations per second for one m x k x n multiplication, in GFLOPS. */
+    public static double gflops(int m, int k, int n, long nanos) {
+        return 2.0 * m * k * n / nanos;
+    }
+
+    /**
+     * Checks that A is m x k and B is k x n, and that the m x n result fits in one array. The
+     * products are taken in long, so shapes whose int product would wrap around are rejected.
+     */
+    static void checkShapes(int aLength, int bLength, int m, int k, int n) {
+        if (m < 0 || k < 0 || n < 0 || aLength != (long) m * k || bLength != (long) k * n) {
+            throw new IllegalArgumentException("Matrix shapes do not match: A must be m x k and B must be k x n.");
+        }
+        if ((long) m * n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + m + " x " + n + " result has more than " + Integer.MAX_VALUE + " elements.");
+        }
+    }
+}
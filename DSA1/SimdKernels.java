@@ -0,0 +1,147 @@
+package DSA1;
+
+/**
+ * SIMD versions of the matrix multiply and Gaussian elimination inner loops.
+ *
+ * When the jdk.incubator.vector module is in the boot layer (the JVM was started with
+ * --add-modules jdk.incubator.vector), the kernels in VectorApiKernels are used. They process
+ * DoubleVector.SPECIES_PREFERRED lanes per instruction, which is the widest vector the host
+ * supports (4 doubles with AVX2, 8 with AVX-512). Otherwise the scalar loops below are used,
+ * so callers never need to know which one is active. Run with -Dsimd.scalar=true to force the
+ * scalar path for comparison.
+ *
+ * VectorApiKernels is only loaded by reflection, after the module check, so this class and
+ * everything that calls it compile and run without the incubator module. It is kept in the
+ * separate incubator-vector source directory and compiled on its own (see that file); if it was
+ * not built, the scalar kernels are used even when the module is present.
+ *
+ * multiply and axpy use a separate multiply and add in each lane, exactly like the scalar
+ * loops, so both paths give bit-identical results. dot sums in a different order (one partial
+ * sum per lane) and may differ from the scalar result in the last bits.
+ */
+public class SimdKernels {
+
+    /** The operations each implementation provides. */
+    interface Kernels {
+        String description();
+
+        double dot(double[] x, int xOff, double[] y, int yOff, int length);
+
+        /** y[yOff..] += a * x[xOff..] for length elements. */
+        void axpy(double a, double[] x, int xOff, double[] y, int yOff, int length);
+
+        /** Rows [rowStart, rowEnd) of C += A * B on strided views, as in MatrixKernels.multiplyStrided. */
+        void multiplyStrided(double[] A, int aOff, int lda, double[] B, int bOff, int ldb,
+                             double[] C, int cOff, int ldc, int k, int n, int rowStart, int rowEnd);
+    }
+
+    private static final Kernels KERNELS = load();
+
+    private static Kernels load() {
+        if (!Boolean.getBoolean("simd.scalar") && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (Kernels) Class.forName("DSA1.VectorApiKernels").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Compiled without the module, or the class is missing: fall back to scalar.
+            }
+        }
+        return new ScalarKernels();
+    }
+
+    /** True if the Vector API kernels are in use. */
+    public static boolean isVectorized() {
+        return !(KERNELS instanceof ScalarKernels);
+    }
+
+    /** A short description of the active implementation, e.g. "Vector API, 512-bit (8 doubles)". */
+    public static String implementation() {
+        return KERNELS.description();
+    }
+
+    public static double dot(double[] x, int xOff, double[] y, int yOff, int length) {
+        return KERNELS.dot(x, xOff, y, yOff, length);
+    }
+
+    public static void axpy(double a, double[] x, int xOff, double[] y, int yOff, int length) {
+        KERNELS.axpy(a, x, xOff, y, yOff, length);
+    }
+
+    /**
+     * SIMD Blocked Matrix Multiplication
+     * Algorithm: the tiled i-k-j kernel of MatrixKernels.multiply, with the unit-stride
+     * inner loop over a row of B and C done a vector at a time.
+     * Time Complexity:
+     * - Best Case: O(m * k * n)
+     * - Worst Case: O(m * k * n)
+     * - Average Case: O(m * k * n)
+     */
+    public static double[] multiply(double[] A, double[] B, int m, int k, int n) {
+        MatrixKernels.checkShapes(A.length, B.length, m, k, n);
+        double[] C = new double[m * n];
+        KERNELS.multiplyStrided(A, 0, k, B, 0, n, C, 0, n, k, n, 0, m);
+        return C;
+    }
+
+    /** C += A * B on strided views with the active implementation; used by the blocked LU update. */
+    static void multiplyStrided(double[] A, int aOff, int lda, double[] B, int bOff, int ldb,
+                                double[] C, int cOff, int ldc, int k, int n, int rowStart, int rowEnd) {
+        KERNELS.multiplyStrided(A, aOff, lda, B, bOff, ldb, C, cOff, ldc, k, n, rowStart, rowEnd);
+    }
+
+    /** double[][] wrapper; returns null for incompatible shapes, like AlgorithmCollection.matrixMultiply. */
+    public static double[][] multiply(double[][] A, double[][] B) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) return null;
+        int m = A.length, k = B.length, n = B[0].length;
+        return MatrixKernels.unflatten(multiply(MatrixKernels.flatten(A), MatrixKernels.flatten(B), m, k, n), m, n);
+    }
+
+    /**
+     * SIMD Gaussian Elimination
+     * Algorithm: AlgorithmCollection.gaussianElimination on an n x (n + 1) augmented matrix,
+     * with each row update A[j][i..n] -= factor * A[i][i..n] done as one axpy.
+     * Time Complexity:
+     * - Best Case: O(n^3)
+     * - Worst Case: O(n^3)
+     * - Average Case: O(n^3)
+     */
+    public static void gaussianElimination(double[][] A) {
+        if (A == null || A.length == 0) return;
+        int n = A.length;
+        for (int i = 0; i < n - 1; i++) {
+            if (A[i][i] == 0) {
+                System.out.println("Warning: Zero pivot encountered at A[" + i + "][" + i + "]. Algorithm may fail.");
+                continue;
+            }
+            for (int j = i + 1; j < n; j++) {
+                double factor = A[j][i] / A[i][i];
+                KERNELS.axpy(-factor, A[i], i, A[j], i, n + 1 - i);
+            }
+        }
+    }
+
+    /** The fallback when the Vector API is unavailable. */
+    private static final class ScalarKernels implements Kernels {
+        @Override
+        public String description() {
+            return "scalar";
+        }
+
+        @Override
+        public double dot(double[] x, int xOff, double[] y, int yOff, int length) {
+            double sum = 0.0;
+            for (int i = 0; i < length; i++) sum += x[xOff + i] * y[yOff + i];
+            return sum;
+        }
+
+        @Override
+        public void axpy(double a, double[] x, int xOff, double[] y, int yOff, int length) {
+            for (int i = 0; i < length; i++) y[yOff + i] += a * x[xOff + i];
+        }
+
+        @Override
+        public void multiplyStrided(double[] A, int aOff, int lda, double[] B, int bOff, int ldb,
+                                    double[] C, int cOff, int ldc, int k, int n, int rowStart, int rowEnd) {
+            MatrixKernels.multiplyStrided(A, aOff, lda, B, bOff, ldb, C, cOff, ldc, k, n, rowStart, rowEnd);
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package DSA1;
+import IO.FastReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A sparse matrix in compressed sparse row (CSR) form.
+ *
+ * Only the nonzeros are stored: the column indices and values of row i are
+ * colIdx[rowPtr[i] .. rowPtr[i + 1]) and values[...], with columns increasing within a row.
+ * Memory is O(rows + nnz) instead of O(rows * cols), and every operation below skips the
+ * zeros instead of multiplying by them. The CSR form of A^T is the compressed sparse column
+ * (CSC) form of A, so transpose() also gives column access.
+ *
+ * multiplyAuto and solveAuto take dense double[][] input and choose the sparse or the dense
+ * algorithm from the fraction of nonzeros, so callers do not need to know which one applies.
+ */
+public class SparseMatrix {
+
+    /** Below this fraction of nonzeros the sparse algorithms beat the dense kernels. */
+    public static final double SPARSE_DENSITY_THRESHOLD = 0.05;
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowPtr;
+    private final int[] colIdx;
+    private final double[] values;
+
+    SparseMatrix(int rows, int cols, int[] rowPtr, int[] colIdx, double[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPtr = rowPtr;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    // --- CONSTRUCTION ---
+
+    /** Keeps the nonzero entries of a rectangular dense matrix. */
+    public static SparseMatrix fromDense(double[][] A) {
+        int rows = A.length, cols = rows == 0 ? 0 : A[0].length;
+        int nnz = 0;
+        for (double[] row : A) {
+            if (row.length != cols) throw new IllegalArgumentException("Matrix rows must all have the same length.");
+            for (double v : row) if (v != 0.0) nnz++;
+        }
+        int[] rowPtr = new int[rows + 1];
+        int[] colIdx = new int[nnz];
+        double[] values = new double[nnz];
+        int p = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (A[i][j] != 0.0) {
+                    colIdx[p] = j;
+                    values[p++] = A[i][j];
+                }
+            }
+            rowPtr[i + 1] = p;
+        }
+        return new SparseMatrix(rows, cols, rowPtr, colIdx, values);
+    }
+
+    /**
+     * Builds a matrix from count (row, column, value) triples in any order. Duplicate
+     * coordinates are summed, as in the Matrix Market format, and resulting zeros are dropped.
+     */
+    public static SparseMatrix fromCoordinates(int rows, int cols, int[] rowIndex, int[] colIndex, double[] value, int count) {
+        if (rows < 0 || cols < 0) throw new IllegalArgumentException("Dimensions must be non-negative.");
+        // Counting sort by row; columns within a row are still unsorted.
+        int[] rowPtr = new int[rows + 1];
+        for (int e = 0; e < count; e++) {
+            if (rowIndex[e] < 0 || rowIndex[e] >= rows || colIndex[e] < 0 || colIndex[e] >= cols) {
+                throw new IllegalArgumentException("Entry (" + rowIndex[e] + ", " + colIndex[e] + ") is outside a "
+                        + rows + " x " + cols + " matrix.");
+            }
+            rowPtr[rowIndex[e] + 1]++;
+        }
+        for (int i = 0; i < rows; i++) rowPtr[i + 1] += rowPtr[i];
+        int[] next = Arrays.copyOf(rowPtr, rows);
+        int[] colIdx = new int[count];
+        double[] values = new double[count];
+        for (int e = 0; e < count; e++) {
+            int p = next[rowIndex[e]]++;
+            colIdx[p] = colIndex[e];
+            values[p] = value[e];
+        }
+        // Transposing twice is a counting sort by column, so both passes are linear.
+        return new SparseMatrix(rows, cols, rowPtr, colIdx, values).transpose().transpose().sumDuplicates();
+    }
+
+    /** Merges adjacent equal column indices (columns must already be sorted) and drops zeros. */
+    private SparseMatrix sumDuplicates() {
+        int[] newPtr = new int[rows + 1];
+        int[] newCol = new int[colIdx.length];
+        double[] newVal = new double[values.length];
+        int q = 0;
+        for (int i = 0; i < rows; i++) {
+            int p = rowPtr[i];
+            while (p < rowPtr[i + 1]) {
+                int c = colIdx[p];
+                double sum = 0.0;
+                for (; p < rowPtr[i + 1] && colIdx[p] == c; p++) sum += values[p];
+                if (sum != 0.0) {
+                    newCol[q] = c;
+                    newVal[q++] = sum;
+                }
+            }
+            newPtr[i + 1] = q;
+        }
+        return new SparseMatrix(rows, cols, newPtr, Arrays.copyOf(newCol, q), Arrays.copyOf(newVal, q));
+    }
+
+    /**
+     * Reads a coordinate-list file in Matrix Market format: optional "%%MatrixMarket matrix
+     * coordinate real|integer|pattern general|symmetric|skew-symmetric" banner, '%' comment
+     * lines, a "rows cols entries" line, then one "row column value" line per entry with
+     * 1-based indices. Pattern files have no values (every entry is 1); for symmetric files
+     * only one triangle is stored and is mirrored here.
+     */
+    public static SparseMatrix readCoordinateFile(Path path) throws IOException {
+        try (FastReader in = FastReader.open(path)) {
+            String line = in.nextLine();
+            String banner = line.toLowerCase(Locale.ROOT);
+            boolean pattern = false, symmetric = false, skew = false;
+            if (banner.startsWith("%%matrixmarket")) {
+                if (!banner.contains("coordinate")) throw new IOException("Only coordinate Matrix Market files are supported.");
+                if (banner.contains("complex")) throw new IOException("Complex matrices are not supported.");
+                pattern = banner.contains("pattern");
+                skew = banner.contains("skew-symmetric");
+                symmetric = skew || banner.contains("symmetric") || banner.contains("hermitian");
+            }
+            while (line.isBlank() || line.startsWith("%")) line = in.nextLine();
+            String[] header = line.trim().split("[\\s,]+");
+            if (header.length < 3) throw new IOException("Expected a 'rows cols entries' line, found: " + line);
+            int rows = Integer.parseInt(header[0]), cols = Integer.parseInt(header[1]), entries = Integer.parseInt(header[2]);
+
+            int capacity = symmetric ? 2 * entries : entries;
+            int[] ri = new int[capacity], ci = new int[capacity];
+            double[] v = new double[capacity];
+            int count = 0;
+            for (int e = 0; e < entries; e++) {
+                int i = in.nextInt() - 1, j = in.nextInt() - 1;
+                double value = pattern ? 1.0 : in.nextDouble();
+                ri[count] = i;
+                ci[count] = j;
+                v[count++] = value;
+                if (symmetric && i != j) {
+                    ri[count] = j;
+                    ci[count] = i;
+                    v[count++] = skew ? -value : value;
+                }
+            }
+            return fromCoordinates(rows, cols, ri, ci, v, count);
+        }
+    }
+
+    /** Writes the matrix as a general real Matrix Market coordinate file. */
+    public void writeCoordinateFile(Path path) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.US_ASCII))) {
+            out.println("%%MatrixMarket matrix coordinate real general");
+            out.println(rows + " " + cols + " " + nnz());
+            for (int i = 0; i < rows; i++) {
+                for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) out.println((i + 1) + " " + (colIdx[p] + 1) + " " + values[p]);
+            }
+        }
+    }
+
+    // --- ACCESS ---
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int nnz() {
+        return rowPtr[rows];
+    }
+
+    /** Fraction of entries that are nonzero. */
+    public double density() {
+        return rows == 0 || cols == 0 ? 0.0 : (double) nnz() / ((double) rows * cols);
+    }
+
+    /** Entry (i, j), found by binary search within row i. */
+    public double get(int i, int j) {
+        int p = Arrays.binarySearch(colIdx, rowPtr[i], rowPtr[i + 1], j);
+        return p >= 0 ? values[p] : 0.0;
+    }
+
+    public double[][] toDense() {
+        double[][] A = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) A[i][colIdx[p]] = values[p];
+        }
+        return A;
+    }
+
+    /**
+     * Transpose (equivalently, this matrix in CSC form).
+     * Algorithm: count the entries per column, prefix-sum the counts into row pointers of the
+     * result, then scatter each entry; scanning rows in order leaves the new columns sorted.
+     * Time Complexity: O(rows + cols + nnz)
+     */
+    public SparseMatrix transpose() {
+        int nnz = nnz();
+        int[] ptr = new int[cols + 1];
+        for (int p = 0; p < nnz; p++) ptr[colIdx[p] + 1]++;
+        for (int j = 0; j < cols; j++) ptr[j + 1] += ptr[j];
+        int[] next = Arrays.copyOf(ptr, cols);
+        int[] idx = new int[nnz];
+        double[] val = new double[nnz];
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                int q = next[colIdx[p]]++;
+                idx[q] = i;
+                val[q] = values[p];
+            }
+        }
+        return new SparseMatrix(cols, rows, ptr, idx, val);
+    }
+
+    // --- MULTIPLICATION ---
+
+    /**
+     * Sparse Matrix-Vector Multiplication: y = A x.
+     * Time Complexity: O(rows + nnz)
+     */
+    public double[] multiply(double[] x) {
+        if (x.length != cols) throw new IllegalArgumentException("Vector must have " + cols + " entries.");
+        double[] y = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            double sum = 0.0;
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) sum += values[p] * x[colIdx[p]];
+            y[i] = sum;
+        }
+        return y;
+    }
+
+    /**
+     * Sparse x Dense Multiplication: C = A B for a flat row-major cols x n matrix B.
+     * Algorithm: for each nonzero A[i][p], add A[i][p] * (row p of B) to row i of C.
+     * Time Complexity: O(nnz * n), against O(rows * cols * n) for the dense product.
+     */
+    public double[] multiplyDense(double[] B, int n) {
+        if (B.length != cols * n) throw new IllegalArgumentException("B must be " + cols + " x " + n + ".");
+        double[] C = new double[rows * n];
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) SimdKernels.axpy(values[p], B, colIdx[p] * n, C, i * n, n);
+        }
+        return C;
+    }
+
+    /** Returns null if the shapes do not match, like AlgorithmCollection.matrixMultiply. */
+    public double[][] multiply(double[][] B) {
+        if (B == null || B.length != cols || (cols > 0 && B[0] == null)) return null;
+        int n = cols == 0 ? 0 : B[0].length;
+        return MatrixKernels.unflatten(multiplyDense(MatrixKernels.flatten(B), n), rows, n);
+    }
+
+    /**
+     * Sparse x Sparse Multiplication (Gustavson's algorithm): C = A B.
+     * Algorithm:
+     * 1. For each row i of A, scatter A[i][p] * (row p of B) into a dense accumulator of
+     *    length B.cols, recording each column the first time it is touched.
+     * 2. Sort the touched columns and gather them, with their sums, as row i of C; reset
+     *    only the touched accumulator entries.
+     * Time Complexity: O(flops + nnz(C) log(row length)), where flops is the number of
+     * nonzero products, independent of the dimensions.
+     */
+    public SparseMatrix multiply(SparseMatrix B) {
+        if (cols != B.rows) throw new IllegalArgumentException("Matrix shapes do not match.");
+        int n = B.cols;
+        double[] accumulator = new double[n];
+        int[] lastRow = new int[n];
+        Arrays.fill(lastRow, -1);
+        int[] touched = new int[n];
+        int[] ptr = new int[rows + 1];
+        int[] idx = new int[Math.max(16, nnz() + B.nnz())];
+        double[] val = new double[idx.length];
+        int q = 0;
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                double a = values[p];
+                int k = colIdx[p];
+                for (int r = B.rowPtr[k]; r < B.rowPtr[k + 1]; r++) {
+                    int j = B.colIdx[r];
+                    if (lastRow[j] != i) {
+                        lastRow[j] = i;
+                        accumulator[j] = 0.0;
+                        touched[count++] = j;
+                    }
+                    accumulator[j] += a * B.values[r];
+                }
+            }
+            Arrays.sort(touched, 0, count);
+            if (q + count > idx.length) {
+                int capacity = Math.max(q + count, idx.length + (idx.length >> 1));
+                idx = Arrays.copyOf(idx, capacity);
+                val = Arrays.copyOf(val, capacity);
+            }
+            for (int t = 0; t < count; t++) {
+                int j = touched[t];
+                if (accumulator[j] != 0.0) {
+                    idx[q] = j;
+                    val[q++] = accumulator[j];
+                }
+            }
+            ptr[i + 1] = q;
+        }
+        return new SparseMatrix(rows, n, ptr, Arrays.copyOf(idx, q), Arrays.copyOf(val, q));
+    }
+
+    // --- SOLVER ---
+
+    /**
+     * Sparse Gaussian Elimination with Partial Pivoting: solves A x = b for square A.
+     * Algorithm:
+     * 1. Keep every row as a sorted sparse list, and for each column the rows that have (or
+     *    gained through fill-in) an entry in it.
+     * 2. For column k, among the uneliminated rows whose first entry is in column k, pick the
+     *    one with the largest |A[r][k]| as the pivot row.
+     * 3. Subtract a multiple of the pivot row from each other such row by merging the two
+     *    sorted lists, which removes column k; new columns (fill-in) are registered in step 1.
+     * 4. Back substitute through the pivot rows in reverse order.
+     * Time Complexity: proportional to the fill-in rather than n^3; O(n w^2) for a matrix
+     * with bandwidth w, O(n^3) only when the factors fill in completely.
+     * Returns null if A is singular (a column with no usable pivot).
+     */
+    public double[] solve(double[] b) {
+        if (rows != cols) throw new IllegalArgumentException("Matrix must be square.");
+        if (b.length != rows) throw new IllegalArgumentException("Right-hand side must have " + rows + " entries.");
+        int n = rows;
+        int[][] rowCols = new int[n][];
+        double[][] rowVals = new double[n][];
+        int[][] colRows = new int[n][];
+        int[] colCount = new int[n];
+        double maxAbs = 0.0;
+        for (int i = 0; i < n; i++) {
+            rowCols[i] = Arrays.copyOfRange(colIdx, rowPtr[i], rowPtr[i + 1]);
+            rowVals[i] = Arrays.copyOfRange(values, rowPtr[i], rowPtr[i + 1]);
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                addRow(colRows, colCount, colIdx[p], i);
+                maxAbs = Math.max(maxAbs, Math.abs(values[p]));
+            }
+        }
+        double tolerance = n * Math.ulp(maxAbs);
+        double[] y = b.clone();
+        boolean[] eliminated = new boolean[n];
+        int[] pivotRow = new int[n];
+
+        for (int k = 0; k < n; k++) {
+            int pivot = -1;
+            for (int t = 0; t < colCount[k]; t++) {
+                int r = colRows[k][t];
+                if (eliminated[r] || rowCols[r].length == 0 || rowCols[r][0] != k) continue;
+                if (pivot < 0 || Math.abs(rowVals[r][0]) > Math.abs(rowVals[pivot][0])) pivot = r;
+            }
+            if (pivot < 0 || Math.abs(rowVals[pivot][0]) <= tolerance) return null;
+            eliminated[pivot] = true;
+            pivotRow[k] = pivot;
+            int[] pc = rowCols[pivot];
+            double[] pv = rowVals[pivot];
+            for (int t = 0; t < colCount[k]; t++) {
+                int r = colRows[k][t];
+                if (eliminated[r] || rowCols[r].length == 0 || rowCols[r][0] != k) continue;
+                double factor = rowVals[r][0] / pv[0];
+                y[r] -= factor * y[pivot];
+                // Merge row r (without column k) with -factor * pivot row (without column k).
+                int[] rc = rowCols[r];
+                double[] rv = rowVals[r];
+                int[] mc = new int[rc.length + pc.length - 2];
+                double[] mv = new double[mc.length];
+                int a = 1, c = 1, m = 0;
+                while (a < rc.length || c < pc.length) {
+                    if (c == pc.length || (a < rc.length && rc[a] < pc[c])) {
+                        mc[m] = rc[a];
+                        mv[m++] = rv[a++];
+                    } else if (a == rc.length || pc[c] < rc[a]) {
+                        mc[m] = pc[c];
+                        mv[m++] = -factor * pv[c];
+                        addRow(colRows, colCount, pc[c], r);
+                        c++;
+                    } else {
+                        double v = rv[a] - factor * pv[c];
+                        if (v != 0.0) {
+                            mc[m] = rc[a];
+                            mv[m++] = v;
+                        }
+                        a++;
+                        c++;
+                    }
+                }
+                rowCols[r] = m == mc.length ? mc : Arrays.copyOf(mc, m);
+                rowVals[r] = m == mv.length ? mv : Arrays.copyOf(mv, m);
+            }
+        }
+
+        double[] x = new double[n];
+        for (int k = n - 1; k >= 0; k--) {
+            int r = pivotRow[k];
+            double sum = y[r];
+            for (int p = 1; p < rowCols[r].length; p++) sum -= rowVals[r][p] * x[rowCols[r][p]];
+            x[k] = sum / rowVals[r][0];
+        }
+        return x;
+    }
+
+    private static void addRow(int[][] colRows, int[] colCount, int col, int row) {
+        if (colRows[col] == null) {
+            colRows[col] = new int[4];
+        } else if (colCount[col] == colRows[col].length) {
+            colRows[col] = Arrays.copyOf(colRows[col], colCount[col] * 2);
+        }
+        colRows[col][colCount[col]++] = row;
+    }
+
+    // --- DENSITY-BASED DISPATCH ---
+
+    /** Fraction of nonzero entries in a dense matrix. */
+    public static double density(double[][] A) {
+        long nonzeros = 0, total = 0;
+        for (double[] row : A) {
+            for (double v : row) if (v != 0.0) nonzeros++;
+            total += row.length;
+        }
+        return total == 0 ? 0.0 : (double) nonzeros / total;
+    }
+
+    /**
+     * Multiplies dense-stored matrices, switching to sparse algorithms when A is sparse:
+     * sparse x sparse when B is sparse as well, sparse x dense otherwise, and the dense SIMD
+     * kernel when A is dense. Returns null for incompatible shapes.
+     */
+    public static double[][] multiplyAuto(double[][] A, double[][] B) {
+        if (A == null || B == null || A.length == 0 || B.length == 0 || A[0].length != B.length) return null;
+        if (density(A) >= SPARSE_DENSITY_THRESHOLD) return SimdKernels.multiply(A, B);
+        SparseMatrix sparseA = fromDense(A);
+        if (density(B) < SPARSE_DENSITY_THRESHOLD) return sparseA.multiply(fromDense(B)).toDense();
+        return sparseA.multiply(B);
+    }
+
+    /**
+     * Solves A x = b with sparse elimination when A is sparse and with a dense LU otherwise.
+     * Returns null if A is singular.
+     */
+    public static double[] solveAuto(double[][] A, double[] b) {
+        if (density(A) < SPARSE_DENSITY_THRESHOLD) return fromDense(A).solve(b);
+        return LUDecomposition.factor(A).solve(b);
+    }
+}
@@ -0,0 +1,194 @@
+package DSA1;
+import java.util.Arrays;
+
+/**
+ * Strassen matrix multiplication (Winograd's variant) for square matrices.
+ *
+ * Splitting A, B and C into h x h quadrants (h = n / 2), Winograd's schedule forms seven
+ * products instead of eight:
+ *   S1 = A21 + A22   S2 = S1 - A11   S3 = A11 - A21   S4 = A12 - S2
+ *   T1 = B12 - B11   T2 = B22 - T1   T3 = B22 - B12   T4 = T2 - B21
+ *   P1 = A11 B11   P2 = A12 B21   P3 = S4 B22   P4 = A22 T4
+ *   P5 = S1 T1     P6 = S2 T2     P7 = S3 T3
+ *   C11 = P1 + P2             C12 = P1 + P6 + P5 + P3
+ *   C21 = P1 + P6 + P7 - P4   C22 = P1 + P6 + P7 + P5
+ * which gives T(n) = 7 T(n / 2) + O(n^2) = O(n^log2(7)) = O(n^2.807).
+ *
+ * Below the crossover size the recursion stops and the cache-blocked classic kernel in
+ * MatrixKernels takes over, since for small n its lower constant factor wins. The input is
+ * zero-padded once, up front, to c * 2^d with c <= crossover, so every level splits evenly.
+ *
+ * Quadrants of A, B and C are used in place as strided views. Each level needs only three
+ * h x h temporaries (a sum of A quadrants, a sum of B quadrants and a product). They are
+ * carved out of one per-thread workspace that is allocated once and reused across calls.
+ */
+public class Strassen {
+
+    /**
+     * Default size at or below which the classic kernel is used. Override with
+     * -Dstrassen.crossover=N; Benchmarks.StrassenCrossover measures the best value for a machine.
+     */
+    public static final int DEFAULT_CROSSOVER = Integer.getInteger("strassen.crossover", 128);
+
+    /** Per-thread workspace for padded inputs and per-level temporaries, grown on demand. */
+    private static final ThreadLocal<double[]> WORKSPACE = new ThreadLocal<>();
+
+    /** Multiplies two n x n matrices with the default crossover. Returns null for non-square or mismatched inputs. */
+    public static double[][] multiply(double[][] A, double[][] B) {
+        return multiply(A, B, DEFAULT_CROSSOVER);
+    }
+
+    public static double[][] multiply(double[][] A, double[][] B, int crossover) {
+        if (A == null || B == null || A.length == 0 || A.length != B.length
+                || A[0].length != A.length || B[0].length != B.length) {
+            return null;
+        }
+        int n = A.length;
+        return MatrixKernels.unflatten(multiply(MatrixKernels.flatten(A), MatrixKernels.flatten(B), n, crossover), n, n);
+    }
+
+    /**
+     * Multiplies two flat row-major n x n matrices.
+     * Algorithm:
+     * 1. Find the depth d and base size c <= crossover with c * 2^d >= n; pad A and B to that size.
+     * 2. Recursively form the seven Winograd products of the quadrants, adding each into C.
+     * 3. At size c, multiply with the blocked classic kernel.
+     * Time Complexity:
+     * - Best Case: O(n^2.807)
+     * - Worst Case: O(n^2.807)
+     * - Average Case: O(n^2.807)
+     * Padding adds less than a factor of (1 + 1/c)^3 in work for any n.
+     */
+    public static double[] multiply(double[] A, double[] B, int n, int crossover) {
+        if (crossover < 1) throw new IllegalArgumentException("Crossover must be at least 1.");
+        MatrixKernels.checkShapes(A.length, B.length, n, n, n);
+        double[] C = new double[n * n];
+        int base = n, depth = 0;
+        while (base > crossover) {
+            base = (base + 1) / 2;
+            depth++;
+        }
+        if (depth == 0) {
+            MatrixKernels.multiplyRows(A, B, C, n, n, 0, n);
+            return C;
+        }
+        int size = base << depth;
+        boolean padded = size != n;
+        long temporaries = 0;
+        for (int h = size / 2; h >= base; h /= 2) temporaries += 3L * h * h;
+        long needed = temporaries + (padded ? 3L * size * size : 0);
+        if (needed > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Matrix too large for a single workspace.");
+        double[] work = workspace((int) needed);
+
+        if (!padded) {
+            multiply(A, 0, n, B, 0, n, C, 0, n, n, base, work, 0);
+            return C;
+        }
+        // Padded copies of A and B and a padded C live at the end of the workspace.
+        int aOff = (int) temporaries, bOff = aOff + size * size, cOff = bOff + size * size;
+        Arrays.fill(work, aOff, cOff + size * size, 0.0);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A, i * n, work, aOff + i * size, n);
+            System.arraycopy(B, i * n, work, bOff + i * size, n);
+        }
+        multiply(work, aOff, size, work, bOff, size, work, cOff, size, size, base, work, 0);
+        for (int i = 0; i < n; i++) System.arraycopy(work, cOff + i * size, C, i * n, n);
+        return C;
+    }
+
+    /** Drops this thread's workspace so it can be garbage collected. */
+    public static void releaseWorkspace() {
+        WORKSPACE.remove();
+    }
+
+    private static double[] workspace(int minLength) {
+        double[] work = WORKSPACE.get();
+        if (work == null || work.length < minLength) {
+            work = new double[minLength];
+            WORKSPACE.set(work);
+        }
+        return work;
+    }
+
+    /**
+     * C += A * B for s x s views (element (i, j) of A is A[aOff + i * lda + j]).
+     * The temporaries for this level start at work[tOff]; deeper levels use the space after them.
+     */
+    private static void multiply(double[] A, int aOff, int lda, double[] B, int bOff, int ldb,
+                                 double[] C, int cOff, int ldc, int s, int base, double[] work, int tOff) {
+        if (s <= base) {
+            MatrixKernels.multiplyStrided(A, aOff, lda, B, bOff, ldb, C, cOff, ldc, s, s, 0, s);
+            return;
+        }
+        int h = s / 2;
+        int a11 = aOff, a12 = aOff + h, a21 = aOff + h * lda, a22 = a21 + h;
+        int b11 = bOff, b12 = bOff + h, b21 = bOff + h * ldb, b22 = b21 + h;
+        int c11 = cOff, c12 = cOff + h, c21 = cOff + h * ldc, c22 = c21 + h;
+        int x = tOff, y = x + h * h, m = y + h * h, next = m + h * h;
+
+        // P1 = A11 B11, added to all four quadrants.
+        Arrays.fill(work, m, m + h * h, 0.0);
+        multiply(A, a11, lda, B, b11, ldb, work, m, h, h, base, work, next);
+        addInto(work, m, C, c11, ldc, h);
+        addInto(work, m, C, c12, ldc, h);
+        addInto(work, m, C, c21, ldc, h);
+        addInto(work, m, C, c22, ldc, h);
+
+        // P2 = A12 B21 goes only to C11, so it accumulates there directly.
+        multiply(A, a12, lda, B, b21, ldb, C, c11, ldc, h, base, work, next);
+
+        // P5 = S1 T1, added to C12 and C22.
+        combine(A, a21, lda, 1, A, a22, lda, work, x, h);
+        combine(B, b12, ldb, -1, B, b11, ldb, work, y, h);
+        Arrays.fill(work, m, m + h * h, 0.0);
+        multiply(work, x, h, work, y, h, work, m, h, h, base, work, next);
+        addInto(work, m, C, c12, ldc, h);
+        addInto(work, m, C, c22, ldc, h);
+
+        // P6 = S2 T2 with S2 = S1 - A11 and T2 = B22 - T1, added to C12, C21 and C22.
+        combine(work, x, h, -1, A, a11, lda, work, x, h);
+        combine(B, b22, ldb, -1, work, y, h, work, y, h);
+        Arrays.fill(work, m, m + h * h, 0.0);
+        multiply(work, x, h, work, y, h, work, m, h, h, base, work, next);
+        addInto(work, m, C, c12, ldc, h);
+        addInto(work, m, C, c21, ldc, h);
+        addInto(work, m, C, c22, ldc, h);
+
+        // P3 = S4 B22 with S4 = A12 - S2, only in C12.
+        combine(A, a12, lda, -1, work, x, h, work, x, h);
+        multiply(work, x, h, B, b22, ldb, C, c12, ldc, h, base, work, next);
+
+        // -P4 = A22 (B21 - T2), only in C21.
+        combine(B, b21, ldb, -1, work, y, h, work, y, h);
+        multiply(A, a22, lda, work, y, h, C, c21, ldc, h, base, work, next);
+
+        // P7 = S3 T3, added to C21 and C22.
+        combine(A, a11, lda, -1, A, a21, lda, work, x, h);
+        combine(B, b22, ldb, -1, B, b12, ldb, work, y, h);
+        Arrays.fill(work, m, m + h * h, 0.0);
+        multiply(work, x, h, work, y, h, work, m, h, h, base, work, next);
+        addInto(work, m, C, c21, ldc, h);
+        addInto(work, m, C, c22, ldc, h);
+    }
+
+    /** Z = X + sign * Y for h x h views and a contiguous h x h Z, which may be the same memory as X or Y. */
+    private static void combine(double[] X, int xOff, int ldx, int sign, double[] Y, int yOff, int ldy,
+                                double[] Z, int zOff, int h) {
+        for (int i = 0; i < h; i++) {
+            int xr = xOff + i * ldx, yr = yOff + i * ldy, zr = zOff + i * h;
+            if (sign > 0) {
+                for (int j = 0; j < h; j++) Z[zr + j] = X[xr + j] + Y[yr + j];
+            } else {
+                for (int j = 0; j < h; j++) Z[zr + j] = X[xr + j] - Y[yr + j];
+            }
+        }
+    }
+
+    /** C += M for an h x h contiguous M and an h x h view of C. */
+    private static void addInto(double[] M, int mOff, double[] C, int cOff, int ldc, int h) {
+        for (int i = 0; i < h; i++) {
+            int mr = mOff + i * h, cr = cOff + i * ldc;
+            for (int j = 0; j < h; j++) C[cr + j] += M[mr + j];
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package DSA2;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Measures how a sorting algorithm's running time grows with n and fits it to growth models.
+ *
+ * A single timing next to "O(n^2)" says nothing about the exponent. analyze times the
+ * algorithm over a geometric series of sizes (warm-up runs first, then the median of several
+ * repeats), then fits the times two ways:
+ * - a power law t = c * n^k, by least squares on log t against log n, whose k is the measured
+ *   exponent (about 1 for O(n), a little above 1 for O(n log n), 2 for O(n^2));
+ * - each Model t = c * f(n), by least squares on log t - log f(n); the model with the smallest
+ *   RMS error in log space fits best.
+ * Fitting in log space weighs every size equally, so the largest sizes do not drown the rest.
+ *
+ * main runs the analysis for the sorts in SORTS and exits with status 1 if any of them no
+ * longer matches its claimed average-case complexity, so it can run as a regression check.
+ */
+public class ComplexityAnalyzer {
+
+    public enum Model {
+        N("O(n)"),
+        N_LOG_N("O(n log n)"),
+        N_SQUARED("O(n^2)"),
+        N_CUBED("O(n^3)");
+
+        private final String label;
+
+        Model(String label) {
+            this.label = label;
+        }
+
+        /** f(n); log n is base 2, so the constant of N_LOG_N is the time per n log2 n. */
+        public double f(double n) {
+            switch (this) {
+                case N: return n;
+                case N_LOG_N: return n * Math.max(1, Math.log(n) / Math.log(2));
+                case N_SQUARED: return n * n;
+                default: return n * n * n;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+
+        /** The model with label, e.g. "O(n log n)", or null if there is none. */
+        public static Model parse(String label) {
+            for (Model m : values()) {
+                if (m.label.equals(label)) return m;
+            }
+            return null;
+        }
+    }
+
+    /** The median running time at one size. */
+    public static class Measurement {
+        public final int size;
+        public final double nanos;
+
+        Measurement(int size, double nanos) {
+            this.size = size;
+            this.nanos = nanos;
+        }
+    }
+
+    /** The fit of one model: t = constant * f(n), with rmsLogError the RMS of ln(measured / fitted). */
+    public static class Fit {
+        public final Model model;
+        public final double constant;
+        public final double rmsLogError;
+
+        Fit(Model model, double constant, double rmsLogError) {
+            this.model = model;
+            this.constant = constant;
+            this.rmsLogError = rmsLogError;
+        }
+    }
+
+    public static class Result {
+        public final Measurement[] measurements;
+        /** k and c of the power law t = c * n^k. */
+        public final double exponent;
+        public final double exponentConstant;
+        /** Every model's fit, best first. */
+        public final Fit[] fits;
+
+        Result(Measurement[] measurements, double exponent, double exponentConstant, Fit[] fits) {
+            this.measurements = measurements;
+            this.exponent = exponent;
+            this.exponentConstant = exponentConstant;
+            this.fits = fits;
+        }
+
+        public Fit best() {
+            return fits[0];
+        }
+
+        /**
+         * Whether the measurements support claimed: it fits best, or fits within
+         * CONSISTENCY_TOLERANCE of the best. Cache effects bend real curves, and over a few decades
+         * of n the log n factor is small, so O(n) and O(n log n) can be close to a tie.
+         */
+        public boolean isConsistentWith(Model claimed) {
+            for (Fit fit : fits) {
+                if (fit.model == claimed) return fit.rmsLogError <= best().rmsLogError + CONSISTENCY_TOLERANCE;
+            }
+            return false;
+        }
+    }
+
+    /** Largest extra RMS log error (about 10% per point) for a claimed model to count as consistent. */
+    public static final double CONSISTENCY_TOLERANCE = 0.1;
+    /** Invocations are repeated until a sample has taken at least this long, so tiny sizes are timeable. */
+    private static final long MIN_SAMPLE_NANOS = 10_000_000;
+    /** Time spent sorting minSize arrays before the first measurement, so the JIT has compiled the sort. */
+    private static final long JIT_WARMUP_NANOS = 500_000_000;
+
+    /** The sorts main checks, with their claimed average-case complexity. */
+    public static final Map<String, Consumer<int[]>> SORTS = new LinkedHashMap<>();
+    public static final Map<String, Model> CLAIMED = new LinkedHashMap<>();
+
+    static {
+        register("Bubble Sort", SearchAndSort::bubbleSort, Model.N_SQUARED);
+        register("Insertion Sort", SearchAndSort::insertionSort, Model.N_SQUARED);
+        register("Merge Sort", arr -> SearchAndSort.mergeSort(arr, 0, arr.length - 1), Model.N_LOG_N);
+        register("Parallel Merge Sort", SearchAndSort::parallelMergeSort, Model.N_LOG_N);
+        register("Merge Sort (Scratch Buffer)", SearchAndSort::bufferedMergeSort, Model.N_LOG_N);
+        register("Hybrid Sort", SearchAndSort::hybridSort, Model.N_LOG_N);
+        register("Dual-Pivot Quicksort", SearchAndSort::dualPivotQuickSort, Model.N_LOG_N);
+        register("Introsort", SearchAndSort::introSort, Model.N_LOG_N);
+        register("LSD Radix Sort", SearchAndSort::radixSort, Model.N);
+        register("Parallel MSD Radix Sort", SearchAndSort::parallelRadixSort, Model.N);
+    }
+
+    private static void register(String name, Consumer<int[]> sorter, Model claimed) {
+        SORTS.put(name, sorter);
+        CLAIMED.put(name, claimed);
+    }
+
+    /**
+     * Times sorter on DatasetGenerator data of sizes minSize, minSize * growth, ... up to maxSize,
+     * and fits the results. Each size gets warmup discarded samples, then repeats samples whose
+     * median is kept; every sample sorts a fresh copy of the same data (the copy is not timed).
+     * Before the first size, the sort runs on minSize arrays for JIT_WARMUP_NANOS, otherwise the
+     * small sizes are timed partly in the interpreter and look slower than they are.
+     * Sizes stop growing early once one invocation takes longer than maxNanosPerRun, so the
+     * quadratic sorts do not run for hours; at least three sizes are needed for a fit.
+     */
+    public static Result analyze(Consumer<int[]> sorter, DatasetGenerator.Distribution distribution, int minSize, int maxSize,
+                                 double growth, int warmup, int repeats, long seed, long maxNanosPerRun) {
+        if (minSize < 2 || maxSize < minSize) throw new IllegalArgumentException("Sizes must satisfy 2 <= minSize <= maxSize.");
+        if (!(growth > 1)) throw new IllegalArgumentException("Growth factor must be greater than 1.");
+        if (warmup < 0 || repeats < 1) throw new IllegalArgumentException("Warm-up must not be negative and repeats must be positive.");
+
+        int[] warmupData = DatasetGenerator.generate(distribution, minSize, seed);
+        int[] warmupWork = new int[minSize];
+        long warmupStart = System.nanoTime();
+        do {
+            sample(sorter, warmupData, warmupWork);
+        } while (System.nanoTime() - warmupStart < JIT_WARMUP_NANOS);
+
+        List<Measurement> measurements = new ArrayList<>();
+        for (double n = minSize; n <= maxSize; n *= growth) {
+            int size = (int) Math.round(n);
+            if (!measurements.isEmpty() && size == measurements.get(measurements.size() - 1).size) continue;
+            int[] original = DatasetGenerator.generate(distribution, size, seed);
+            int[] work = new int[size];
+            for (int w = 0; w < warmup; w++) sample(sorter, original, work);
+            double[] samples = new double[repeats];
+            for (int r = 0; r < repeats; r++) samples[r] = sample(sorter, original, work);
+            Arrays.sort(samples);
+            double median = repeats % 2 == 1 ? samples[repeats / 2] : (samples[repeats / 2 - 1] + samples[repeats / 2]) / 2;
+            measurements.add(new Measurement(size, median));
+            if (median > maxNanosPerRun) break;
+        }
+        if (measurements.size() < 3) {
+            throw new IllegalArgumentException("Only " + measurements.size() + " size(s) measured; widen the size range or raise the time limit.");
+        }
+        return fit(measurements.toArray(new Measurement[0]));
+    }
+
+    /** The mean time of one invocation, over as many invocations as fit in MIN_SAMPLE_NANOS. */
+    private static double sample(Consumer<int[]> sorter, int[] original, int[] work) {
+        long timed = 0;
+        int invocations = 0;
+        do {
+            System.arraycopy(original, 0, work, 0, original.length);
+            long startTime = System.nanoTime();
+            sorter.accept(work);
+            timed += System.nanoTime() - startTime;
+            invocations++;
+        } while (timed < MIN_SAMPLE_NANOS);
+        return (double) timed / invocations;
+    }
+
+    /**
+     * Least-Squares Growth Fit
+     * Algorithm: Regress ln t on ln n for the power law; for each model, ln c is the mean of
+     * ln t - ln f(n), and the residuals give its RMS error.
+     * Time Complexity:
+     * - Best Case: O(m) for m measurements
+     * - Worst Case: O(m)
+     * - Average Case: O(m)
+     */
+    public static Result fit(Measurement[] measurements) {
+        int m = measurements.length;
+        double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+        for (Measurement point : measurements) {
+            double x = Math.log(point.size), y = Math.log(point.nanos);
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+        double exponent = (m * sumXY - sumX * sumY) / (m * sumXX - sumX * sumX);
+        double exponentConstant = Math.exp((sumY - exponent * sumX) / m);
+
+        Model[] models = Model.values();
+        Fit[] fits = new Fit[models.length];
+        for (int i = 0; i < models.length; i++) {
+            double meanLogC = 0;
+            for (Measurement point : measurements) meanLogC += Math.log(point.nanos) - Math.log(models[i].f(point.size));
+            meanLogC /= m;
+            double sumSquares = 0;
+            for (Measurement point : measurements) {
+                double residual = Math.log(point.nanos) - Math.log(models[i].f(point.size)) - meanLogC;
+                sumSquares += residual * residual;
+            }
+            fits[i] = new Fit(models[i], Math.exp(meanLogC), Math.sqrt(sumSquares / m));
+        }
+        Arrays.sort(fits, (a, b) -> Double.compare(a.rmsLogError, b.rmsLogError));
+        return new Result(measurements, exponent, exponentConstant, fits);
+    }
+
+    /** The measurements, the power law and every model's fit, as printed by the CLI. */
+    public static String report(Result result, Model claimed) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%12s %18s %14s%n", "n", "median time (ns)", "ns / f(n)"));
+        for (Measurement point : result.measurements) {
+            sb.append(String.format("%12d %18.0f %14.4f%n", point.size, point.nanos, point.nanos / result.best().model.f(point.size)));
+        }
+        sb.append(String.format("Power law: t = %.4g ns * n^%.2f%n", result.exponentConstant, result.exponent));
+        sb.append("Model fits (best first):\n");
+        for (Fit fit : result.fits) {
+            sb.append(String.format("  %-11s t = %.4g ns * f(n), RMS log error %.3f%n", fit.model, fit.constant, fit.rmsLogError));
+        }
+        sb.append("Best fit: ").append(result.best().model).append("\n");
+        if (claimed != null) {
+            sb.append("Claimed ").append(claimed).append(": ")
+              .append(result.isConsistentWith(claimed) ? "consistent with the measurements" : "NOT consistent with the measurements").append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Usage: java -cp out DSA2.ComplexityAnalyzer [sort name...]
+     * Checks the named sorts (all of SORTS if none) on uniform random data and exits with
+     * status 1 if any result is inconsistent with its claimed complexity.
+     */
+    public static void main(String[] args) {
+        List<String> names = args.length > 0 ? Arrays.asList(args) : new ArrayList<>(SORTS.keySet());
+        boolean allConsistent = true;
+        for (String name : names) {
+            Consumer<int[]> sorter = SORTS.get(name);
+            if (sorter == null) {
+                System.out.println("Unknown sort: " + name + " (known: " + SORTS.keySet() + ")");
+                allConsistent = false;
+                continue;
+            }
+            Model claimed = CLAIMED.get(name);
+            // The quadratic sorts get a smaller range so the check finishes in seconds.
+            int maxSize = claimed == Model.N_SQUARED ? 16_000 : 1_000_000;
+            int minSize = claimed == Model.N_SQUARED ? 500 : 4_000;
+            Result result = analyze(sorter, DatasetGenerator.Distribution.UNIFORM, minSize, maxSize, 2, 2, 5, 42, 2_000_000_000L);
+            System.out.println("--- " + name + " ---");
+            System.out.print(report(result, claimed));
+            allConsistent &= result.isConsistentWith(claimed);
+        }
+        System.exit(allConsistent ? 0 : 1);
+    }
+}
@@ -0,0 +1,257 @@
+package DSA2;
+import IO.MappedDataset;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generates int datasets of up to hundreds of millions of values for searching and sorting
+ * experiments, into an int[] or straight into a memory-mapped file (MappedDataset).
+ *
+ * Output depends only on the distribution, size, seed and parameter, never on the number of
+ * threads: the values are produced in fixed chunks of CHUNK_SIZE in parallel, and chunk c
+ * draws from its own SplittableRandom seeded with a hash of (seed, c). The same call therefore
+ * gives the same data in the CLI, the GUI and the benchmarks, on any machine.
+ */
+public class DatasetGenerator {
+
+    public enum Distribution {
+        /** Uniform over all ints. */
+        UNIFORM("Uniform random"),
+        /** 0, 1, ..., n - 1. */
+        SORTED("Sorted"),
+        /** n, n - 1, ..., 1. */
+        REVERSED("Reverse sorted"),
+        /** 0, 1, ..., n - 1 after k random swaps; the parameter is k (default n / 100). */
+        NEARLY_SORTED("Nearly sorted (k swaps)"),
+        /** Uniform over 0 .. k - 1; the parameter is k (default 16). */
+        FEW_UNIQUE("Few unique (k values)"),
+        /** Ascending to the middle, then descending: 0, 1, 2, ..., 2, 1, 0. */
+        ORGAN_PIPE("Organ pipe"),
+        /** Ranks 1 .. n, where rank r has probability proportional to 1 / r^s; the parameter is s (default 1). */
+        ZIPF("Zipf (exponent s)");
+
+        private final String description;
+
+        Distribution(String description) {
+            this.description = description;
+        }
+
+        public String description() {
+            return description;
+        }
+
+        /** Whether generate's parameter means anything for this distribution. */
+        public boolean hasParameter() {
+            return this == NEARLY_SORTED || this == FEW_UNIQUE || this == ZIPF;
+        }
+    }
+
+    /** Values generated per task; also the unit that gets its own random stream. */
+    static final int CHUNK_SIZE = 1 << 16;
+    public static final int DEFAULT_FEW_UNIQUE = 16;
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+
+    /**
+     * Looks a distribution up by name, ignoring case, '-' and '_': "nearlySorted",
+     * "nearly-sorted" and "NEARLY_SORTED" all work. "random" and "reverse" are accepted as
+     * aliases of UNIFORM and REVERSED.
+     */
+    public static Distribution parse(String name) {
+        String key = name.replace("-", "").replace("_", "").toUpperCase(Locale.ROOT);
+        if (key.equals("RANDOM")) return Distribution.UNIFORM;
+        if (key.equals("REVERSE") || key.equals("REVERSESORTED")) return Distribution.REVERSED;
+        for (Distribution d : Distribution.values()) {
+            if (d.name().replace("_", "").equals(key)) return d;
+        }
+        throw new IllegalArgumentException("Unknown distribution: " + name);
+    }
+
+    /** The parameter generate uses for distribution when none is given. */
+    public static double defaultParameter(Distribution distribution, int size) {
+        switch (distribution) {
+            case NEARLY_SORTED: return Math.max(1, size / 100);
+            case FEW_UNIQUE: return DEFAULT_FEW_UNIQUE;
+            case ZIPF: return DEFAULT_ZIPF_EXPONENT;
+            default: return 0;
+        }
+    }
+
+    public static int[] generate(Distribution distribution, int size, long seed) {
+        return generate(distribution, size, seed, defaultParameter(distribution, size));
+    }
+
+    /**
+     * Dataset Generation
+     * Algorithm: Split [0, size) into chunks of CHUNK_SIZE and fill them in parallel, each from
+     * its own random stream; for NEARLY_SORTED, then apply k random swaps sequentially.
+     * Time Complexity:
+     * - Best Case: O(n)
+     * - Worst Case: O(n + k)
+     * - Average Case: O(n + k)
+     */
+    public static int[] generate(Distribution distribution, int size, long seed, double parameter) {
+        if (size < 0) throw new IllegalArgumentException("Size must not be negative.");
+        int[] values = new int[size];
+        fill(IntBuffer.wrap(values), distribution, seed, parameter);
+        return values;
+    }
+
+    /**
+     * Generates size values into a new little-endian int32 file at path (created or truncated),
+     * without ever holding them on the heap. The file can then be searched and sorted with the
+     * memory-mapped options of SearchAndSort, or read back with MappedDataset.readInts.
+     */
+    public static MappedDataset generateFile(Path path, Distribution distribution, int size, long seed, double parameter) throws IOException {
+        if (size < 0) throw new IllegalArgumentException("Size must not be negative.");
+        MappedDataset dataset = MappedDataset.createInts(path, size);
+        fill(dataset.asInts(), distribution, seed, parameter);
+        dataset.flush();
+        return dataset;
+    }
+
+    /** Fills out from index 0 to its limit. */
+    public static void fill(IntBuffer out, Distribution distribution, long seed, double parameter) {
+        int size = out.limit();
+        checkParameter(distribution, size, parameter);
+        ZipfSampler zipf = distribution == Distribution.ZIPF ? new ZipfSampler(Math.max(1, size), parameter) : null;
+        int chunks = (int) (((long) size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * CHUNK_SIZE;
+            int length = Math.min(CHUNK_SIZE, size - from);
+            int[] chunk = new int[length];
+            SplittableRandom random = new SplittableRandom(mix64(seed ^ mix64(c + 1L)));
+            fillChunk(chunk, from, size, distribution, parameter, zipf, random);
+            // Absolute bulk puts on disjoint ranges; each task has its own view of the buffer.
+            out.duplicate().put(from, chunk, 0, length);
+        });
+        if (distribution == Distribution.NEARLY_SORTED && size > 1) {
+            SplittableRandom random = new SplittableRandom(seed);
+            for (long s = (long) parameter; s > 0; s--) {
+                int a = random.nextInt(size), b = random.nextInt(size);
+                int temp = out.get(a);
+                out.put(a, out.get(b));
+                out.put(b, temp);
+            }
+        }
+    }
+
+    /** Fills chunk with the values at indices [from, from + chunk.length) of a dataset of size values. */
+    private static void fillChunk(int[] chunk, int from, int size, Distribution distribution, double parameter,
+                                  ZipfSampler zipf, SplittableRandom random) {
+        switch (distribution) {
+            case UNIFORM:
+                for (int i = 0; i < chunk.length; i++) chunk[i] = random.nextInt();
+                break;
+            case SORTED:
+            case NEARLY_SORTED:
+                for (int i = 0; i < chunk.length; i++) chunk[i] = from + i;
+                break;
+            case REVERSED:
+                for (int i = 0; i < chunk.length; i++) chunk[i] = size - (from + i);
+                break;
+            case FEW_UNIQUE: {
+                int k = (int) parameter;
+                for (int i = 0; i < chunk.length; i++) chunk[i] = random.nextInt(k);
+                break;
+            }
+            case ORGAN_PIPE:
+                for (int i = 0; i < chunk.length; i++) chunk[i] = Math.min(from + i, size - 1 - (from + i));
+                break;
+            case ZIPF:
+                for (int i = 0; i < chunk.length; i++) chunk[i] = zipf.sample(random);
+                break;
+        }
+    }
+
+    private static void checkParameter(Distribution distribution, int size, double parameter) {
+        switch (distribution) {
+            case NEARLY_SORTED:
+                if (!(parameter >= 0)) throw new IllegalArgumentException("The number of swaps must not be negative.");
+                break;
+            case FEW_UNIQUE:
+                if (!(parameter >= 1 && parameter <= Integer.MAX_VALUE)) {
+                    throw new IllegalArgumentException("The number of unique values must be between 1 and " + Integer.MAX_VALUE + ".");
+                }
+                break;
+            case ZIPF:
+                if (!(parameter > 0) || Double.isInfinite(parameter)) throw new IllegalArgumentException("The Zipf exponent must be positive.");
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Stafford's variant 13 of the MurmurHash3 finalizer: nearby inputs give unrelated seeds. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Zipf Sampling by Rejection-Inversion (Hormann and Derflinger)
+     * Algorithm: Invert the integral H of the continuous density h(x) = x^-s, which bounds the
+     * discrete probabilities from above; round the result to the nearest rank k and accept it
+     * unless the sample fell in the small gap between the bound and the true probability of k.
+     * Time Complexity:
+     * - Best Case: O(1)
+     * - Worst Case: O(1) expected (fewer than 1.1 trials on average for any s)
+     * - Average Case: O(1)
+     * Unlike a table of cumulative probabilities it needs no O(n) setup or memory.
+     */
+    private static class ZipfSampler {
+        private final int n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double s;
+
+        ZipfSampler(int n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            hIntegralX1 = hIntegral(1.5) - 1;
+            hIntegralN = hIntegral(n + 0.5);
+            s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        int sample(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                int k = (int) (x + 0.5);
+                if (k < 1) k = 1;
+                else if (k > n) k = n;
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) return k;
+            }
+        }
+
+        private double h(double x) {
+            return exponent == 1 ? 1 / x : Math.exp(-exponent * Math.log(x));
+        }
+
+        /** H(x) = (x^(1-s) - 1) / (1 - s), or log(x) when s = 1, computed stably for s near 1. */
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return exponent == 1 ? logX : expm1OverX((1 - exponent) * logX) * logX;
+        }
+
+        private double hIntegralInverse(double x) {
+            if (exponent == 1) return Math.exp(x);
+            double t = x * (1 - exponent);
+            if (t < -1) t = -1; // guards against rounding just past the end of H's range
+            return Math.exp(log1pOverX(t) * x);
+        }
+
+        private static double expm1OverX(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x / 2 * (1 + x / 3 * (1 + x / 4));
+        }
+
+        private static double log1pOverX(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - x / 4));
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package DSA2;
+import IO.FastReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * External merge sort for int files that are larger than the heap.
+ *
+ * Algorithm:
+ * 1. Read the input in chunks that fit the memory budget, sort each chunk in memory and
+ *    spill it to a temporary run file.
+ * 2. Merge up to fanIn runs at a time with a min-heap keyed on the head of each run,
+ *    repeating until a single run is left, which is written in the output format.
+ *
+ * Binary files hold raw little-endian int32 values. Text files hold integers separated by
+ * whitespace or commas. Temporary runs are always binary.
+ *
+ * Time Complexity: O(n log n) comparisons, with O(n) I/O per merge pass and
+ * ceil(log_fanIn(runs)) merge passes.
+ */
+public class ExternalSort {
+
+    public enum Format { BINARY, TEXT }
+
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /** Smallest I/O buffer given to one run during merging. */
+    private static final int MIN_RUN_BUFFER = 64 << 10;
+    private static final int MAX_FAN_IN = 512;
+
+    /** Summary of one external sort. */
+    public static class Result {
+        public final long count;
+        public final int runs;
+        public final int mergePasses;
+
+        Result(long count, int runs, int mergePasses) {
+            this.count = count;
+            this.runs = runs;
+            this.mergePasses = mergePasses;
+        }
+    }
+
+    /**
+     * Sorts the ints in input into output, holding at most memoryBudget bytes of data in memory.
+     */
+    public static Result sort(Path input, Format inputFormat, Path output, Format outputFormat, long memoryBudget) throws IOException {
+        if (memoryBudget < 2 * MIN_RUN_BUFFER) {
+            throw new IllegalArgumentException("Memory budget must be at least " + (2 * MIN_RUN_BUFFER) + " bytes.");
+        }
+        Path tempDir = Files.createTempDirectory("external-sort");
+        try {
+            // The chunk and its scratch buffer (4 bytes each per element) must both fit in the budget,
+            // and there is no point in a chunk longer than the file can hold (text needs >= 2 bytes per int).
+            long maxValues = Files.size(input) / (inputFormat == Format.BINARY ? 4 : 2) + 1;
+            int chunkLength = (int) Math.min(Math.min(Integer.MAX_VALUE - 8, memoryBudget / 8), maxValues);
+            List<Path> runs = new ArrayList<>();
+            long count = 0;
+            try (IntReader in = openReader(input, inputFormat, MIN_RUN_BUFFER)) {
+                int[] chunk = new int[chunkLength];
+                int[] scratch = new int[chunkLength];
+                while (true) {
+                    int n = 0;
+                    while (n < chunkLength && in.hasNext()) chunk[n++] = in.next();
+                    if (n == 0) break;
+                    SearchAndSort.bufferedMergeSort(chunk, 0, n, scratch);
+                    Path run = Files.createTempFile(tempDir, "run", ".bin");
+                    try (IntWriter out = new BinaryIntWriter(run, MIN_RUN_BUFFER)) {
+                        for (int i = 0; i < n; i++) out.write(chunk[i]);
+                    }
+                    runs.add(run);
+                    count += n;
+                    if (n < chunkLength) break;
+                }
+            }
+            int initialRuns = runs.size();
+
+            // Give each run in a merge at least MIN_RUN_BUFFER bytes, plus one buffer for the output.
+            int fanIn = (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBudget / MIN_RUN_BUFFER - 1));
+            int bufferBytes = (int) Math.min(1 << 20, memoryBudget / (fanIn + 1));
+            int passes = 0;
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int start = 0; start < runs.size(); start += fanIn) {
+                    List<Path> group = runs.subList(start, Math.min(runs.size(), start + fanIn));
+                    Path run = Files.createTempFile(tempDir, "run", ".bin");
+                    try (IntWriter out = new BinaryIntWriter(run, bufferBytes)) {
+                        mergeRuns(group, out, bufferBytes);
+                    }
+                    for (Path p : group) Files.delete(p);
+                    merged.add(run);
+                }
+                runs = merged;
+                passes++;
+            }
+            try (IntWriter out = openWriter(output, outputFormat, bufferBytes)) {
+                mergeRuns(runs, out, bufferBytes);
+            }
+            passes++;
+            return new Result(count, initialRuns, passes);
+        } finally {
+            try (Stream<Path> files = Files.list(tempDir)) {
+                for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+            }
+            Files.deleteIfExists(tempDir);
+        }
+    }
+
+    /**
+     * K-way merge: a binary min-heap holds the indices of the non-exhausted runs,
+     * ordered by the current head value of each run.
+     */
+    private static void mergeRuns(List<Path> runs, IntWriter out, int bufferBytes) throws IOException {
+        int k = runs.size();
+        BinaryIntReader[] readers = new BinaryIntReader[k];
+        int[] head = new int[k];
+        int[] heap = new int[k];
+        int size = 0;
+        try {
+            for (int r = 0; r < k; r++) {
+                readers[r] = new BinaryIntReader(runs.get(r), bufferBytes);
+                if (readers[r].hasNext()) {
+                    head[r] = readers[r].next();
+                    heap[size++] = r;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) siftDown(heap, head, i, size);
+            while (size > 0) {
+                int r = heap[0];
+                out.write(head[r]);
+                if (readers[r].hasNext()) {
+                    head[r] = readers[r].next();
+                } else {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, head, 0, size);
+            }
+        } finally {
+            for (BinaryIntReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+    }
+
+    private static void siftDown(int[] heap, int[] head, int i, int size) {
+        int run = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && head[heap[child + 1]] < head[heap[child]]) child++;
+            if (head[heap[child]] >= head[run]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    // --- INT FILE READERS AND WRITERS ---
+
+    interface IntReader extends Closeable {
+        boolean hasNext() throws IOException;
+
+        int next() throws IOException;
+    }
+
+    interface IntWriter extends Closeable {
+        void write(int value) throws IOException;
+    }
+
+    static IntReader openReader(Path path, Format format, int bufferBytes) throws IOException {
+        return format == Format.BINARY ? new BinaryIntReader(path, bufferBytes) : new TextIntReader(path);
+    }
+
+    static IntWriter openWriter(Path path, Format format, int bufferBytes) throws IOException {
+        return format == Format.BINARY ? new BinaryIntWriter(path, bufferBytes) : new TextIntWriter(path, bufferBytes);
+    }
+
+    /** Reads little-endian int32 values through a direct buffer. */
+    static class BinaryIntReader implements IntReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        BinaryIntReader(Path path, int bufferBytes) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocateDirect(Math.max(4, bufferBytes & ~3)).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(0);
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            if (buffer.remaining() >= 4) return true;
+            buffer.compact();
+            while (buffer.position() < 4 && channel.read(buffer) > 0) {
+                // keep reading until at least one whole int is buffered or the file ends
+            }
+            buffer.flip();
+            if (buffer.remaining() > 0 && buffer.remaining() < 4) {
+                throw new IOException("Binary int file length is not a multiple of 4 bytes.");
+            }
+            return buffer.remaining() >= 4;
+        }
+
+        @Override
+        public int next() {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    static class BinaryIntWriter implements IntWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        BinaryIntWriter(Path path, int bufferBytes) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            buffer = ByteBuffer.allocateDirect(Math.max(4, bufferBytes & ~3)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            if (!buffer.hasRemaining()) flush();
+            buffer.putInt(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            channel.close();
+        }
+    }
+
+    /** Reads integers separated by whitespace or commas. */
+    static class TextIntReader implements IntReader {
+        private final FastReader in;
+
+        TextIntReader(Path path) throws IOException {
+            in = FastReader.open(path);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return in.hasNext();
+        }
+
+        @Override
+        public int next() throws IOException {
+            try {
+                return in.nextInt();
+            } catch (InputMismatchException e) {
+                throw new IOException("Invalid integer in text file: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            in.close();
+        }
+    }
+
+    static class TextIntWriter implements IntWriter {
+        private final Writer out;
+
+        TextIntWriter(Path path, int bufferBytes) throws IOException {
+            out = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.US_ASCII), bufferBytes);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            out.write(Integer.toString(value));
+            out.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package DSA2;
+import java.util.Arrays;
+
+/**
+ * A read-only search index over a set of ints, stored in Eytzinger (breadth-first) order.
+ *
+ * SearchAndSort.binarySearch probes the middle of a sorted array, then the middle of one half,
+ * and so on: every probe is a different cache line far from the last one, and whether it goes
+ * left or right is a coin toss the branch predictor gets wrong half the time. Here the sorted
+ * values are laid out as an implicit binary search tree, root at tree[1] and the children of
+ * tree[k] at tree[2k] and tree[2k + 1]:
+ * - The top levels of the tree, which every search visits, share a few cache lines and stay cached.
+ * - The descent k = 2k + (tree[k] < key) has no data-dependent branch (the JIT turns the
+ *   comparison into a conditional move), so it does not mispredict; the loop always runs
+ *   log2(n) + 1 times.
+ * - The 16 descendants four levels below tree[k] are contiguous, i.e. one cache line. Java has
+ *   no prefetch instruction, so the search issues an ordinary load of that line of tree whose
+ *   result nothing waits for; the miss then overlaps with the next four comparisons. rank is
+ *   only read once, for the node found.
+ *
+ * Results are ranks, i.e. indices into the sorted array: lowerBound and upperBound work like
+ * C++'s std::lower_bound and std::upper_bound, and equalRange combines them.
+ * The index needs 8 bytes per value (the tree and the rank of each node). Its contents never
+ * change after build, so it can be searched from several threads at once.
+ */
+public class EytzingerIndex {
+
+    /** Largest supported size: node numbers up to 2n + 1 must not overflow an int. */
+    public static final int MAX_SIZE = (1 << 30) - 1;
+
+    private final int n;
+    /** 1-based BFS layout of the sorted values; tree[0] is unused. */
+    private final int[] tree;
+    /** rank[k] is the index of tree[k] in the sorted order. */
+    private final int[] rank;
+
+    private EytzingerIndex(int n, int[] tree, int[] rank) {
+        this.n = n;
+        this.tree = tree;
+        this.rank = rank;
+    }
+
+    /**
+     * Eytzinger Index Construction
+     * Algorithm: Sort a copy of the values (skipped if they are already sorted), then walk the
+     * implicit tree in order (left subtree, node, right subtree), giving the nodes the sorted
+     * values one after another.
+     * Time Complexity:
+     * - Best Case: O(n) (input already sorted)
+     * - Worst Case: O(n log n)
+     * - Average Case: O(n log n)
+     * The input array is not modified.
+     */
+    public static EytzingerIndex build(int[] values) {
+        if (values == null) values = new int[0];
+        if (values.length > MAX_SIZE) throw new IllegalArgumentException("At most " + MAX_SIZE + " values are supported.");
+        int[] sorted = values;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                sorted = values.clone();
+                Arrays.sort(sorted);
+                break;
+            }
+        }
+        int n = sorted.length;
+        int[] tree = new int[n + 1];
+        int[] rank = new int[n + 1];
+        // In-order walk without recursion: descend left as far as possible, then step to the
+        // in-order successor (the right child's leftmost descendant, or the nearest ancestor
+        // reached from a left child).
+        int k = 1;
+        while (2 * k <= n) k *= 2;
+        for (int i = 0; i < n; i++) {
+            tree[k] = sorted[i];
+            rank[k] = i;
+            if (2 * k + 1 <= n) {
+                k = 2 * k + 1;
+                while (2 * k <= n) k *= 2;
+            } else {
+                k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+            }
+        }
+        return new EytzingerIndex(n, tree, rank);
+    }
+
+    /**
+     * Branchless Eytzinger Lower Bound
+     * Algorithm: Start at the root and go right while tree[k] < key, left otherwise, until k
+     * falls off the tree. Every right turn is a 1 bit appended to k; the last left turn was at
+     * the answer, so stripping the trailing 1 bits and one 0 bit gives its node.
+     * Time Complexity:
+     * - Best Case: O(log n)
+     * - Worst Case: O(log n)
+     * - Average Case: O(log n)
+     * Returns the index in the sorted order of the first value not less than key, or size()
+     * if every value is less than key.
+     */
+    public int lowerBound(int key) {
+        int k = lowerBoundNode(key);
+        return k == 0 ? n : rank[k];
+    }
+
+    /** The index in the sorted order of the first value greater than key, or size(). */
+    public int upperBound(int key) {
+        return key == Integer.MAX_VALUE ? n : lowerBound(key + 1);
+    }
+
+    /**
+     * The indices [from, to) in the sorted order of the values equal to key, as {from, to};
+     * from == to if key is absent, and to - from is the number of occurrences.
+     */
+    public int[] equalRange(int key) {
+        return new int[]{lowerBound(key), upperBound(key)};
+    }
+
+    /**
+     * Like SearchAndSort.binarySearch on the sorted values: the index of key in the sorted
+     * order (its first occurrence), or -1 if it is absent.
+     */
+    public int search(int key) {
+        int k = lowerBoundNode(key);
+        return k != 0 && tree[k] == key ? rank[k] : -1;
+    }
+
+    public boolean contains(int key) {
+        return search(key) != -1;
+    }
+
+    /** The number of values indexed, duplicates included. */
+    public int size() {
+        return n;
+    }
+
+    /** The node of the first value not less than key, or 0 if there is none. */
+    private int lowerBoundNode(int key) {
+        int k = 1;
+        int prefetchLimit = n >>> 4;
+        int touched = 0;
+        while (k <= n) {
+            // Software prefetch: read the node four levels down now. Nothing waits for the
+            // value, so the miss overlaps with the next four comparisons instead of stalling
+            // the fourth one.
+            if (k <= prefetchLimit) touched |= tree[k << 4];
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        // k >= 1 here, so the test never succeeds; it only keeps the JIT from eliminating the loads.
+        if ((k | touched) == 0) return touched;
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+}
@@ -1,28 +1,43 @@
 package DSA2;
-import java.util.Scanner;
+import IO.FastReader;
+import IO.MappedDataset;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.InputMismatchException;
-import java.util.function.BiFunction;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 /**
  * A Java application that allows users to choose a searching or sorting algorithm,
  * provide a list of items at runtime, and analyze the algorithm's performance.
  */
-class SearchAndSort {
+public class SearchAndSort {
 
     public static void main(String[] args) {
-        Scanner scanner = new Scanner(System.in);
+        FastReader reader = new FastReader(System.in);
         int choice = -1;
         while (choice != 0) {
             printMainMenu();
-            choice = getIntInput(scanner);
+            choice = getIntInput(reader);
             switch (choice) {
                 case 1:
-                    showSearchMenu(scanner);
+                    showSearchMenu(reader);
                     break;
                 case 2:
-                    showSortMenu(scanner);
+                    showSortMenu(reader);
+                    break;
+                case 3:
+                    runGenerateDatasetFile(reader);
+                    break;
+                case 4:
+                    runComplexityAnalyzer(reader);
                     break;
                 case 0:
                     System.out.println("Exiting...");
@@ -31,7 +46,7 @@ class SearchAndSort {
                     System.out.println("Invalid choice. Please enter a number from the menu.");
             }
         }
-        scanner.close();
+        reader.close();
     }
 
     /**
@@ -41,6 +56,8 @@ class SearchAndSort {
         System.out.println("\n--- Main Menu ---");
         System.out.println("1. Searching Algorithms");
         System.out.println("2. Sorting Algorithms");
+        System.out.println("3. Generate a Binary Data File");
+        System.out.println("4. Complexity Analyzer (fit running times across input sizes)");
         System.out.println("0. Exit");
         System.out.print("Enter your choice: ");
     }
@@ -48,22 +65,48 @@ class SearchAndSort {
     /**
      * Displays and handles the searching algorithms menu.
      */
-    public static void showSearchMenu(Scanner scanner) {
+    public static void showSearchMenu(FastReader reader) {
         int choice = -1;
         while (choice != 0) {
             System.out.println("\n--- Searching Algorithms ---");
             System.out.println("1. Sequential Search");
             System.out.println("2. Binary Search");
+            System.out.println("3. Search a Binary Data File (memory-mapped)");
+            System.out.println("4. Batch Search (many keys against one array)");
+            System.out.println("5. Eytzinger Index Search (lower bound, upper bound, equal range)");
+            System.out.println("6. Interpolation Search");
+            System.out.println("7. Exponential Search");
             System.out.println("0. Back to Main Menu");
             System.out.print("Enter your choice: ");
-            choice = getIntInput(scanner);
+            choice = getIntInput(reader);
             switch (choice) {
                 case 1:
-                    runSearchingAlgorithm(scanner, "Sequential Search", SearchAndSort::sequentialSearch, "O(1)", "O(n)", "O(n)");
+                    runSearchingAlgorithm(reader, "Sequential Search", SearchAndSort::sequentialSearch, null, "O(1)", "O(n)", "O(n)");
                     break;
                 case 2:
-                    runSearchingAlgorithm(scanner, "Binary Search", SearchAndSort::binarySearch, "O(1)", "O(log n)", "O(log n)");
+                    runSearchingAlgorithm(reader, "Binary Search", SearchAndSort::binarySearch, null, "O(1)", "O(log n)", "O(log n)");
+                    break;
+                case 3:
+                    runMappedSearch(reader);
+                    break;
+                case 4:
+                    runBatchSearch(reader);
+                    break;
+                case 5:
+                    runEytzingerSearch(reader);
+                    break;
+                case 6: {
+                    ProbeCounter counter = new ProbeCounter();
+                    runSearchingAlgorithm(reader, "Interpolation Search", (arr, key) -> interpolationSearch(arr, key, counter), counter,
+                            "O(1)", "O(log log n) (uniformly distributed values)", "O(log n)");
                     break;
+                }
+                case 7: {
+                    ProbeCounter counter = new ProbeCounter();
+                    runSearchingAlgorithm(reader, "Exponential Search", (arr, key) -> exponentialSearch(arr, key, counter), counter,
+                            "O(1)", "O(log i) (key at index i)", "O(log n)");
+                    break;
+                }
                 case 0:
                     return; // Go back to the main menu
                 default:
@@ -75,25 +118,61 @@ class SearchAndSort {
     /**
      * Displays and handles the sorting algorithms menu.
      */
-    public static void showSortMenu(Scanner scanner) {
+    public static void showSortMenu(FastReader reader) {
         int choice = -1;
         while (choice != 0) {
             System.out.println("\n--- Sorting Algorithms ---");
             System.out.println("1. Bubble Sort");
             System.out.println("2. Insertion Sort");
             System.out.println("3. Merge Sort");
+            System.out.println("4. Parallel Merge Sort");
+            System.out.println("5. Merge Sort (Scratch Buffer)");
+            System.out.println("6. Hybrid Sort");
+            System.out.println("7. Dual-Pivot Quicksort");
+            System.out.println("8. Introsort");
+            System.out.println("9. LSD Radix Sort");
+            System.out.println("10. Parallel MSD Radix Sort");
+            System.out.println("11. External Merge Sort (sort a file)");
+            System.out.println("12. Sort a Binary Data File In Place (memory-mapped Introsort)");
             System.out.println("0. Back to Main Menu");
             System.out.print("Enter your choice: ");
-            choice = getIntInput(scanner);
+            choice = getIntInput(reader);
             switch (choice) {
                 case 1:
-                    runSortingAlgorithm(scanner, "Bubble Sort", SearchAndSort::bubbleSort, "O(n)", "O(n^2)", "O(n^2)");
+                    runSortingAlgorithm(reader, "Bubble Sort", SearchAndSort::bubbleSort, "O(n)", "O(n^2)", "O(n^2)");
                     break;
                 case 2:
-                    runSortingAlgorithm(scanner, "Insertion Sort", SearchAndSort::insertionSort, "O(n)", "O(n^2)", "O(n^2)");
+                    runSortingAlgorithm(reader, "Insertion Sort", SearchAndSort::insertionSort, "O(n)", "O(n^2)", "O(n^2)");
                     break;
                 case 3:
-                    runSortingAlgorithm(scanner, "Merge Sort", (arr) -> mergeSort(arr, 0, arr.length - 1), "O(n log n)", "O(n log n)", "O(n log n)");
+                    runSortingAlgorithm(reader, "Merge Sort", (arr) -> mergeSort(arr, 0, arr.length - 1), "O(n log n)", "O(n log n)", "O(n log n)");
+                    break;
+                case 4:
+                    runSortingAlgorithm(reader, "Parallel Merge Sort", SearchAndSort::parallelMergeSort, "O(n log n)", "O(n log n)", "O(n log n)");
+                    break;
+                case 5:
+                    runSortingAlgorithm(reader, "Merge Sort (Scratch Buffer)", SearchAndSort::bufferedMergeSort, "O(n log n)", "O(n log n)", "O(n log n)");
+                    break;
+                case 6:
+                    runSortingAlgorithm(reader, "Hybrid Sort", SearchAndSort::hybridSort, "O(n)", "O(n log n)", "O(n log n)");
+                    break;
+                case 7:
+                    runSortingAlgorithm(reader, "Dual-Pivot Quicksort", SearchAndSort::dualPivotQuickSort, "O(n log n)", "O(n log n)", "O(n^2)");
+                    break;
+                case 8:
+                    runSortingAlgorithm(reader, "Introsort", SearchAndSort::introSort, "O(n log n)", "O(n log n)", "O(n log n)");
+                    break;
+                case 9:
+                    runSortingAlgorithm(reader, "LSD Radix Sort", SearchAndSort::radixSort, "O(n)", "O(n)", "O(n)");
+                    break;
+                case 10:
+                    runSortingAlgorithm(reader, "Parallel MSD Radix Sort", SearchAndSort::parallelRadixSort, "O(n)", "O(n)", "O(n)");
+                    break;
+                case 11:
+                    runExternalSort(reader);
+                    break;
+                case 12:
+                    runMappedSort(reader);
                     break;
                 case 0:
                     return; // Go back to the main menu
@@ -148,6 +227,204 @@ class SearchAndSort {
         return -1; // key not found
     }
 
+    /** Counts the array elements a search reads (its probes), a measure that wall-clock time hides on small inputs. */
+    public static class ProbeCounter {
+        public long probes;
+    }
+
+    /**
+     * Interpolation Search
+     * Algorithm: Like binary search on a sorted array, but instead of the middle it probes where
+     * the key would be if the values in arr[low..high] were evenly spaced:
+     * low + (key - arr[low]) / (arr[high] - arr[low]) * (high - low). On skewed data that guess
+     * can be poor and shrink the range by only one element per probe, so whenever a probe fails
+     * to halve the range the next probe is a plain binary-search midpoint instead.
+     * Time Complexity:
+     * - Best Case: O(1)
+     * - Worst Case: O(log n) (at most about 2 log2 n probes, thanks to the binary fallback)
+     * - Average Case: O(log log n) for uniformly distributed values
+     */
+    public static int interpolationSearch(int[] arr, int key) {
+        return interpolationSearch(arr, key, null);
+    }
+
+    /** interpolationSearch that adds its probes to counter (if not null). */
+    public static int interpolationSearch(int[] arr, int key, ProbeCounter counter) {
+        if (arr == null || arr.length == 0) return -1;
+        int n = arr.length;
+        long probes = 0;
+        int result = -1;
+        // Invariant: arr[low] < key < arr[high], with both values already read.
+        int low = 0, high = n - 1;
+        long lowValue = arr[low], highValue = arr[high];
+        probes += n > 1 ? 2 : 1;
+        if (key <= lowValue) {
+            result = key == lowValue ? low : -1;
+        } else if (key >= highValue) {
+            result = key == highValue ? high : -1;
+        } else {
+            boolean bisect = false;
+            while (high - low > 1) {
+                int width = high - low;
+                int mid;
+                if (bisect) {
+                    mid = low + width / 2;
+                } else {
+                    // In double: (key - arr[low]) * (high - low) can exceed the range of a long.
+                    mid = low + (int) ((key - lowValue) / (double) (highValue - lowValue) * width);
+                    mid = Math.max(low + 1, Math.min(high - 1, mid));
+                }
+                int value = arr[mid];
+                probes++;
+                if (value == key) {
+                    result = mid;
+                    break;
+                }
+                if (value < key) {
+                    low = mid;
+                    lowValue = value;
+                } else {
+                    high = mid;
+                    highValue = value;
+                }
+                bisect = high - low > width / 2;
+            }
+        }
+        if (counter != null) counter.probes += probes;
+        return result;
+    }
+
+    /**
+     * Exponential (Galloping) Search
+     * Algorithm: Compare the key with arr[1], arr[2], arr[4], arr[8], ... until an element is not
+     * less than the key (or the end is reached), then binary search between the last two bounds.
+     * The cost depends on the position i of the key, not on the array's length, which suits
+     * very large or growing arrays where the key is usually near the front.
+     * Time Complexity:
+     * - Best Case: O(1)
+     * - Worst Case: O(log i), at most O(log n)
+     * - Average Case: O(log i)
+     */
+    public static int exponentialSearch(int[] arr, int key) {
+        return exponentialSearch(arr, key, null);
+    }
+
+    /** exponentialSearch that adds its probes to counter (if not null). */
+    public static int exponentialSearch(int[] arr, int key, ProbeCounter counter) {
+        if (arr == null || arr.length == 0) return -1;
+        long probes = 1;
+        int result = -1;
+        if (arr[0] == key) {
+            result = 0;
+        } else {
+            int bound = 1;
+            while (bound < arr.length && arr[bound] < key) {
+                probes++;
+                bound = bound < arr.length / 2 ? bound * 2 : arr.length;
+            }
+            if (bound < arr.length) probes++;
+            // The key, if present, lies in (bound / 2, bound]: arr[bound / 2] < key.
+            int low = bound / 2 + 1;
+            int high = Math.min(bound, arr.length - 1);
+            while (low <= high) {
+                int mid = low + (high - low) / 2;
+                probes++;
+                if (arr[mid] == key) {
+                    result = mid;
+                    break;
+                }
+                if (arr[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+        }
+        if (counter != null) counter.probes += probes;
+        return result;
+    }
+
+    /**
+     * Cost model for batchSearch, in units of one merge-join step (a sequential read) or one
+     * comparison while sorting the keys. A binary-search probe into an array that fits in L2
+     * costs about the same; into a larger array it is a likely cache miss and branch mispredict.
+     */
+    static final int CACHED_ARRAY_LENGTH = 1 << 16;
+    static final int UNCACHED_PROBE_COST = 8;
+
+    /**
+     * Batch Search
+     * Algorithm: Looks up every key in keys in the sorted array arr and returns, for each key, the
+     * index of its first occurrence in arr, or -1, as one packed int[] parallel to keys.
+     * - Few keys: one lower-bound binary search per key, about m log2 n probes.
+     * - Many keys: the keys are sorted together with their positions (already-sorted keys are
+     *   detected and not re-sorted), then arr and the sorted keys are walked in step like the
+     *   merge in merge sort, so each element of arr is read at most once, in order: about
+     *   n + m log2 m steps. The cheaper plan is chosen, weighting probes into arrays larger
+     *   than CACHED_ARRAY_LENGTH by UNCACHED_PROBE_COST.
+     * Time Complexity:
+     * - Best Case: O(n + m) (keys already sorted)
+     * - Worst Case: O(min(m log n, n + m log m))
+     * - Average Case: O(min(m log n, n + m log m))
+     */
+    public static int[] batchSearch(int[] arr, int[] keys) {
+        if (keys == null) return new int[0];
+        int[] result = new int[keys.length];
+        if (arr == null || arr.length == 0) {
+            Arrays.fill(result, -1);
+            return result;
+        }
+        if (useMergeJoin(arr.length, keys)) {
+            mergeJoin(arr, keys, result);
+        } else {
+            for (int q = 0; q < keys.length; q++) {
+                int i = lowerBound(arr, 0, arr.length, keys[q]);
+                result[q] = i < arr.length && arr[i] == keys[q] ? i : -1;
+            }
+        }
+        return result;
+    }
+
+    /** True if the merge join is estimated to be cheaper than m binary searches. */
+    static boolean useMergeJoin(int n, int[] keys) {
+        long m = keys.length;
+        long probes = m * (32 - Integer.numberOfLeadingZeros(n));
+        if (n > CACHED_ARRAY_LENGTH) probes *= UNCACHED_PROBE_COST;
+        long sortSteps = isSorted(keys) ? m : m * (32 - Integer.numberOfLeadingZeros(keys.length));
+        return probes > n + sortSteps;
+    }
+
+    /** Sets result[q] to the first index of keys[q] in the sorted, non-empty arr, or -1. */
+    static void mergeJoin(int[] arr, int[] keys, int[] result) {
+        int n = arr.length, m = keys.length;
+        if (isSorted(keys)) {
+            int i = 0;
+            for (int q = 0; q < m; q++) {
+                int key = keys[q];
+                while (i < n && arr[i] < key) i++;
+                result[q] = i < n && arr[i] == key ? i : -1;
+            }
+            return;
+        }
+        // Key in the high half, its position in the low half: sorting the longs sorts by key.
+        long[] order = new long[m];
+        for (int q = 0; q < m; q++) order[q] = (long) keys[q] << 32 | q;
+        Arrays.sort(order);
+        int i = 0;
+        for (long entry : order) {
+            int key = (int) (entry >> 32);
+            while (i < n && arr[i] < key) i++;
+            result[(int) entry] = i < n && arr[i] == key ? i : -1;
+        }
+    }
+
+    private static boolean isSorted(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i - 1]) return false;
+        }
+        return true;
+    }
+
 
     // --- SORTING ALGORITHMS ---
 
@@ -158,12 +435,14 @@ class SearchAndSort {
      * - Best Case: O(n) (array is already sorted)
      * - Worst Case: O(n^2)
      * - Average Case: O(n^2)
+     * Stops with a CancellationException, leaving arr partly sorted, if its thread is interrupted.
      */
     public static void bubbleSort(int[] arr) {
         if (arr == null) return;
         int n = arr.length;
         boolean swapped;
         for (int i = 0; i < n - 1; i++) {
+            checkInterrupted();
             swapped = false;
             for (int j = 0; j < n - i - 1; j++) {
                 if (arr[j] > arr[j + 1]) {
@@ -187,11 +466,13 @@ class SearchAndSort {
      * - Best Case: O(n) (array is already sorted)
      * - Worst Case: O(n^2)
      * - Average Case: O(n^2)
+     * Stops with a CancellationException, leaving arr partly sorted, if its thread is interrupted.
      */
     public static void insertionSort(int[] arr) {
         if (arr == null) return;
         int n = arr.length;
         for (int i = 1; i < n; ++i) {
+            checkInterrupted();
             int key = arr[i];
             int j = i - 1;
             while (j >= 0 && arr[j] > key) {
@@ -202,6 +483,15 @@ class SearchAndSort {
         }
     }
 
+    /**
+     * Throws CancellationException if the current thread has been interrupted, clearing the flag.
+     * Checked once per outer pass by the sorts that can take quadratic time, so that a GUI run
+     * that was cancelled or timed out stops instead of occupying its worker thread.
+     */
+    private static void checkInterrupted() {
+        if (Thread.interrupted()) throw new CancellationException("Sort interrupted.");
+    }
+
 
     /**
      * 5. Merge Sort
@@ -256,74 +546,1266 @@ class SearchAndSort {
         }
     }
 
+    /** Ranges at or below this length are sorted or merged sequentially by parallelMergeSort. */
+    public static final int DEFAULT_PARALLEL_CUTOFF = 8192;
+
+    /**
+     * 6. Parallel Merge Sort
+     * Algorithm: Fork/join merge sort. Halves are sorted in parallel until a range is no larger than the
+     * sequential cutoff; such a leaf is sorted by a sequential top-down merge sort that alternates
+     * between the array and the auxiliary buffer level by level, so no leaf allocates. Large halves are
+     * also merged in parallel: the median of the longer run is binary-searched in the shorter run,
+     * splitting the merge into two independent merges. The only array allocated is the n-int auxiliary buffer.
+     * Time Complexity (work):
+     * - Best Case: O(n log n)
+     * - Worst Case: O(n log n)
+     * - Average Case: O(n log n)
+     * Span: O(log^3 n), so the speed-up grows with the number of cores.
+     */
+    public static void parallelMergeSort(int[] arr) {
+        parallelMergeSort(arr, DEFAULT_PARALLEL_CUTOFF);
+    }
+
+    public static void parallelMergeSort(int[] arr, int cutoff) {
+        if (arr == null || arr.length < 2) return;
+        if (cutoff < 2) throw new IllegalArgumentException("Sequential cutoff must be at least 2.");
+        int[] buffer = new int[arr.length];
+        ForkJoinPool.commonPool().invoke(new ParallelSortTask(arr, buffer, 0, arr.length, false, cutoff));
+    }
+
+    /**
+     * Sorts a[lo..hi). The result is left in b when intoB is set, otherwise in a.
+     */
+    private static class ParallelSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] a, b;
+        private final int lo, hi, cutoff;
+        private final boolean intoB;
+
+        ParallelSortTask(int[] a, int[] b, int lo, int hi, boolean intoB, int cutoff) {
+            this.a = a;
+            this.b = b;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoB = intoB;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= cutoff) {
+                // The other array's range is free, so it serves as the scratch buffer for this leaf.
+                System.arraycopy(a, lo, b, lo, hi - lo);
+                if (intoB) {
+                    pingPongSort(a, b, lo, hi);
+                } else {
+                    pingPongSort(b, a, lo, hi);
+                }
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            // Halves land in the opposite array, so merging them back puts the result where it belongs.
+            invokeAll(new ParallelSortTask(a, b, lo, mid, !intoB, cutoff),
+                      new ParallelSortTask(a, b, mid, hi, !intoB, cutoff));
+            int[] src = intoB ? a : b;
+            int[] dst = intoB ? b : a;
+            new ParallelMergeTask(src, dst, lo, mid, mid, hi, lo, cutoff).compute();
+        }
+    }
+
+    /**
+     * Merges src[lo1..hi1) and src[lo2..hi2) into dst starting at index out.
+     */
+    private static class ParallelMergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out, cutoff;
+
+        ParallelMergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int out, int cutoff) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= cutoff) {
+                mergeRuns(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int split1, split2;
+            if (n1 >= n2) {
+                split1 = lo1 + n1 / 2;
+                split2 = lowerBound(src, lo2, hi2, src[split1]);
+            } else {
+                split2 = lo2 + n2 / 2;
+                split1 = upperBound(src, lo1, hi1, src[split2]);
+            }
+            int outSplit = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new ParallelMergeTask(src, dst, lo1, split1, lo2, split2, out, cutoff),
+                      new ParallelMergeTask(src, dst, split1, hi1, split2, hi2, outSplit, cutoff));
+        }
+    }
+
+    /**
+     * 7. Merge Sort (Scratch Buffer)
+     * Algorithm: Top-down merge sort that never allocates inside the recursion. The array is copied once
+     * into a scratch buffer, and each level of recursion swaps the roles of array and buffer (ping-pong),
+     * so every merge reads from one and writes to the other instead of copying into fresh L and R arrays.
+     * The scratch buffer is reused per thread, so repeated sorts of up to SCRATCH_CACHE_LIMIT elements
+     * allocate nothing; larger sorts get a buffer of their own that is freed with them.
+     * Time Complexity:
+     * - Best Case: O(n log n)
+     * - Worst Case: O(n log n)
+     * - Average Case: O(n log n)
+     * Auxiliary Space: O(n) once per thread, versus O(n log n) total allocation in mergeSort.
+     */
+    public static void bufferedMergeSort(int[] arr) {
+        if (arr == null || arr.length < 2) return;
+        bufferedMergeSort(arr, scratchBuffer(arr.length));
+    }
+
+    /**
+     * Sorts arr using the caller's scratch buffer, which must be at least as long as arr.
+     */
+    public static void bufferedMergeSort(int[] arr, int[] scratch) {
+        if (arr == null || arr.length < 2) return;
+        bufferedMergeSort(arr, 0, arr.length, scratch);
+    }
+
+    /**
+     * Sorts arr[from..to) using scratch[from..to) as the buffer.
+     */
+    public static void bufferedMergeSort(int[] arr, int from, int to, int[] scratch) {
+        if (scratch.length < to) throw new IllegalArgumentException("Scratch buffer is smaller than the range.");
+        System.arraycopy(arr, from, scratch, from, to - from);
+        pingPongSort(scratch, arr, from, to);
+    }
+
+    /** Drops this thread's scratch buffer, e.g. after sorting an unusually large array. */
+    public static void releaseScratchBuffer() {
+        SCRATCH_BUFFER.remove();
+    }
+
+    private static final ThreadLocal<int[]> SCRATCH_BUFFER = ThreadLocal.withInitial(() -> new int[0]);
+
+    /**
+     * Largest scratch buffer kept per thread (4 MB). Allocating a bigger one costs little next to
+     * the sort that needs it, and caching it would pin hundreds of megabytes to the thread (e.g. the
+     * CLI's main thread) after a single large sort.
+     */
+    static final int SCRATCH_CACHE_LIMIT = 1 << 20;
+
+    /** Returns this thread's scratch buffer, grown to at least minLength, or a fresh one above SCRATCH_CACHE_LIMIT. */
+    private static int[] scratchBuffer(int minLength) {
+        if (minLength > SCRATCH_CACHE_LIMIT) return new int[minLength];
+        int[] scratch = SCRATCH_BUFFER.get();
+        if (scratch.length < minLength) {
+            scratch = new int[minLength];
+            SCRATCH_BUFFER.set(scratch);
+        }
+        return scratch;
+    }
+
+    /**
+     * Sorts src[lo..hi) into dst[lo..hi). Both ranges must hold the same elements on entry;
+     * src is used as scratch space and is left permuted.
+     */
+    private static void pingPongSort(int[] src, int[] dst, int lo, int hi) {
+        if (hi - lo < 2) return;
+        int mid = (lo + hi) >>> 1;
+        pingPongSort(dst, src, lo, mid);
+        pingPongSort(dst, src, mid, hi);
+        mergeRuns(src, lo, mid, mid, hi, dst, lo);
+    }
+
+    /**
+     * 8. Hybrid Sort
+     * Algorithm: An adaptive, TimSort-like natural merge sort built from the pieces above.
+     * 1. Scan the array for existing runs: non-descending runs are kept, strictly descending runs are reversed.
+     * 2. Runs shorter than a minimum run length (16-32) are extended with insertion sort.
+     * 3. Runs are pushed on a stack and merged while the stack lengths stay roughly Fibonacci-shaped,
+     *    so merges are always balanced.
+     * 4. Before each merge, the prefix of the left run and the suffix of the right run that are already
+     *    in place are skipped, and only the smaller remaining run is copied into the scratch buffer.
+     * On presorted or reversed input this is a single O(n) scan; on nearly sorted input, only the
+     * disordered regions are merged.
+     * Time Complexity:
+     * - Best Case: O(n) (array is already sorted or reverse-sorted)
+     * - Worst Case: O(n log n)
+     * - Average Case: O(n log n)
+     */
+    public static void hybridSort(int[] arr) {
+        if (arr == null || arr.length < 2) return;
+        new HybridSorter(arr).sort();
+    }
+
+    /** Arrays shorter than this are sorted by a single insertion sort pass. */
+    private static final int HYBRID_MIN_MERGE = 32;
+
+    private static final class HybridSorter {
+        private final int[] a;
+        // 49 pending runs is enough for any int-sized array while the run-length invariants hold.
+        private final int[] runBase = new int[49];
+        private final int[] runLen = new int[49];
+        private int stackSize = 0;
+        /** Merge buffer for this sort: empty until the first merge, then the thread's cached scratch buffer (grown as needed). */
+        private int[] buffer = new int[0];
+
+        HybridSorter(int[] a) {
+            this.a = a;
+        }
+
+        void sort() {
+            int lo = 0;
+            int remaining = a.length;
+            if (remaining < HYBRID_MIN_MERGE) {
+                int runEnd = countRunAndMakeAscending(a, lo, a.length);
+                insertionSort(a, lo, a.length, runEnd);
+                return;
+            }
+            int minRun = minRunLength(remaining);
+            while (remaining > 0) {
+                int runEnd = countRunAndMakeAscending(a, lo, lo + remaining);
+                int len = runEnd - lo;
+                if (len < minRun) {
+                    int forced = Math.min(minRun, remaining);
+                    insertionSort(a, lo, lo + forced, runEnd);
+                    len = forced;
+                }
+                runBase[stackSize] = lo;
+                runLen[stackSize] = len;
+                stackSize++;
+                mergeCollapse();
+                lo += len;
+                remaining -= len;
+            }
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges pending runs until runLen[i-2] > runLen[i-1] + runLen[i] and runLen[i-1] > runLen[i]
+         * hold for the top of the stack.
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1])
+                        || (n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1])) {
+                    if (runLen[n - 1] < runLen[n + 1]) n--;
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /** Merges the pending runs at stack positions i and i+1. */
+        private void mergeAt(int i) {
+            int base1 = runBase[i], len1 = runLen[i];
+            int base2 = runBase[i + 1], len2 = runLen[i + 1];
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+
+            // Elements of run 1 that are <= the first element of run 2 are already in place.
+            int start = upperBound(a, base1, base1 + len1, a[base2]);
+            len1 -= start - base1;
+            base1 = start;
+            if (len1 == 0) return;
+            // Elements of run 2 that are >= the last element of run 1 are already in place.
+            len2 = lowerBound(a, base2, base2 + len2, a[base1 + len1 - 1]) - base2;
+            if (len2 == 0) return;
+
+            if (len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
+            } else {
+                mergeHi(base1, len1, base2, len2);
+            }
+        }
+
+        private int[] buffer(int minLength) {
+            if (buffer.length < minLength) buffer = scratchBuffer(minLength);
+            return buffer;
+        }
+
+        /** Copies the left run to scratch and merges forwards. */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            int[] tmp = buffer(len1);
+            System.arraycopy(a, base1, tmp, 0, len1);
+            int i = 0, j = base2, k = base1;
+            int end2 = base2 + len2;
+            while (i < len1 && j < end2) {
+                a[k++] = a[j] < tmp[i] ? a[j++] : tmp[i++];
+            }
+            while (i < len1) a[k++] = tmp[i++];
+        }
+
+        /** Copies the right run to scratch and merges backwards. */
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            int[] tmp = buffer(len2);
+            System.arraycopy(a, base2, tmp, 0, len2);
+            int i = base1 + len1 - 1, j = len2 - 1, k = base2 + len2 - 1;
+            while (i >= base1 && j >= 0) {
+                a[k--] = a[i] > tmp[j] ? a[i--] : tmp[j--];
+            }
+            while (j >= 0) a[k--] = tmp[j--];
+        }
+    }
+
+    /** Ranges at or below this length are finished by insertion sort in the quicksorts. */
+    private static final int QUICKSORT_INSERTION_THRESHOLD = 32;
+
+    /**
+     * 9. Dual-Pivot Quicksort
+     * Algorithm: In-place quicksort with two pivots p1 <= p2, chosen as the 2nd and 4th of five sorted
+     * samples. One pass partitions the range into three parts: < p1, between p1 and p2, and > p2.
+     * The two smaller parts are sorted recursively and the largest in a loop, so the stack depth is
+     * O(log n). Small ranges are finished by insertion sort.
+     * Time Complexity:
+     * - Best Case: O(n log n)
+     * - Worst Case: O(n^2) (consistently bad pivot samples)
+     * - Average Case: O(n log n)
+     * Auxiliary Space: O(log n) stack, no auxiliary array.
+     * Stops with a CancellationException, leaving arr partly sorted, if its thread is interrupted.
+     */
+    public static void dualPivotQuickSort(int[] arr) {
+        if (arr == null || arr.length < 2) return;
+        dualPivotQuickSort(arr, 0, arr.length - 1);
+    }
+
+    private static void dualPivotQuickSort(int[] a, int left, int right) {
+        while (right - left + 1 > QUICKSORT_INSERTION_THRESHOLD) {
+            checkInterrupted();
+            int length = right - left + 1;
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh;
+            int e4 = e3 + seventh, e5 = e4 + seventh;
+            sortFive(a, e1, e2, e3, e4, e5);
+
+            // Move the pivots to the ends of the range.
+            swap(a, e2, left);
+            swap(a, e4, right);
+            int p1 = a[left], p2 = a[right];
+
+            int lt = left + 1, gt = right - 1, i = left + 1;
+            while (i <= gt) {
+                if (a[i] < p1) {
+                    swap(a, i++, lt++);
+                } else if (a[i] > p2) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            swap(a, left, --lt);
+            swap(a, right, ++gt);
+
+            // Parts: [left, lt-1] < p1, [lt+1, gt-1] in [p1, p2], [gt+1, right] > p2.
+            // With equal pivots the middle part holds only copies of the pivot and is already sorted.
+            boolean middleSorted = p1 == p2;
+            int size1 = lt - left, size2 = middleSorted ? -1 : gt - lt - 1, size3 = right - gt;
+            if (size1 >= size2 && size1 >= size3) {
+                if (!middleSorted) dualPivotQuickSort(a, lt + 1, gt - 1);
+                dualPivotQuickSort(a, gt + 1, right);
+                right = lt - 1;
+            } else if (size3 >= size2) {
+                dualPivotQuickSort(a, left, lt - 1);
+                if (!middleSorted) dualPivotQuickSort(a, lt + 1, gt - 1);
+                left = gt + 1;
+            } else {
+                dualPivotQuickSort(a, left, lt - 1);
+                dualPivotQuickSort(a, gt + 1, right);
+                left = lt + 1;
+                right = gt - 1;
+            }
+        }
+        insertionSort(a, left, right + 1, left + 1);
+    }
+
+    /** Sorts the five elements at the given positions in place with a 9-comparator sorting network. */
+    private static void sortFive(int[] a, int e1, int e2, int e3, int e4, int e5) {
+        sortTwo(a, e1, e2);
+        sortTwo(a, e4, e5);
+        sortTwo(a, e3, e5);
+        sortTwo(a, e3, e4);
+        sortTwo(a, e1, e4);
+        sortTwo(a, e1, e3);
+        sortTwo(a, e2, e5);
+        sortTwo(a, e2, e4);
+        sortTwo(a, e2, e3);
+    }
+
+    private static void sortTwo(int[] a, int i, int j) {
+        if (a[i] > a[j]) swap(a, i, j);
+    }
+
+    /**
+     * 10. Introsort
+     * Algorithm: In-place quicksort (median-of-three pivot, Hoare partitioning) that monitors its own
+     * recursion depth. If the depth exceeds 2 * log2(n), the pivots are evidently poor and the
+     * current range is finished by heapsort instead. Small ranges are finished by insertion sort.
+     * The smaller side is recursed into and the larger side looped on.
+     * Time Complexity:
+     * - Best Case: O(n log n)
+     * - Worst Case: O(n log n) (guaranteed by the heapsort fallback)
+     * - Average Case: O(n log n)
+     * Auxiliary Space: O(log n) stack, no auxiliary array.
+     */
+    public static void introSort(int[] arr) {
+        if (arr == null || arr.length < 2) return;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+        introSort(new ArraySlots(arr), 0, arr.length, depthLimit);
+    }
+
+    /**
+     * Index-based access to the values introsort works on, so the same code sorts an int[] and
+     * an IntBuffer (e.g. a memory-mapped file). Each call site sees at most these two
+     * implementations, which the JIT inlines behind a type check.
+     */
+    private interface IntSlots {
+        int get(int i);
+
+        void set(int i, int value);
+
+        default void swap(int i, int j) {
+            int temp = get(i);
+            set(i, get(j));
+            set(j, temp);
+        }
+    }
+
+    private static final class ArraySlots implements IntSlots {
+        private final int[] a;
+
+        ArraySlots(int[] a) {
+            this.a = a;
+        }
+
+        @Override
+        public int get(int i) {
+            return a[i];
+        }
+
+        @Override
+        public void set(int i, int value) {
+            a[i] = value;
+        }
+    }
+
+    /** Uses absolute get/put, so the buffer's position and limit are ignored. */
+    private static final class BufferSlots implements IntSlots {
+        private final IntBuffer a;
+
+        BufferSlots(IntBuffer a) {
+            this.a = a;
+        }
+
+        @Override
+        public int get(int i) {
+            return a.get(i);
+        }
+
+        @Override
+        public void set(int i, int value) {
+            a.put(i, value);
+        }
+    }
+
+    /** Sorts a[lo..hi). */
+    private static void introSort(IntSlots a, int lo, int hi, int depthLimit) {
+        while (hi - lo > QUICKSORT_INSERTION_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(a, lo, hi);
+                return;
+            }
+            depthLimit--;
+            int split = hoarePartition(a, lo, hi) + 1;
+            if (split - lo < hi - split) {
+                introSort(a, lo, split, depthLimit);
+                lo = split;
+            } else {
+                introSort(a, split, hi, depthLimit);
+                hi = split;
+            }
+        }
+        for (int i = lo + 1; i < hi; i++) {
+            int key = a.get(i);
+            int j = i - 1;
+            while (j >= lo && a.get(j) > key) {
+                a.set(j + 1, a.get(j));
+                j--;
+            }
+            a.set(j + 1, key);
+        }
+    }
+
+    /**
+     * Partitions a[lo..hi) around the median of its first, middle and last elements.
+     * Returns j such that every element of a[lo..j] is <= every element of a[j+1..hi).
+     */
+    private static int hoarePartition(IntSlots a, int lo, int hi) {
+        int mid = (lo + hi - 1) >>> 1;
+        if (a.get(mid) < a.get(lo)) a.swap(mid, lo);
+        if (a.get(hi - 1) < a.get(lo)) a.swap(hi - 1, lo);
+        if (a.get(hi - 1) < a.get(mid)) a.swap(hi - 1, mid);
+        int pivot = a.get(mid);
+        int i = lo - 1, j = hi;
+        while (true) {
+            do i++; while (a.get(i) < pivot);
+            do j--; while (a.get(j) > pivot);
+            if (i >= j) return j;
+            a.swap(i, j);
+        }
+    }
+
+    /** Heapsort on a[lo..hi), using a max-heap rooted at lo. */
+    private static void heapSort(IntSlots a, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(a, lo, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            a.swap(lo, lo + end);
+            siftDown(a, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(IntSlots a, int lo, int i, int n) {
+        int value = a.get(lo + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && a.get(lo + child + 1) > a.get(lo + child)) child++;
+            if (a.get(lo + child) <= value) break;
+            a.set(lo + i, a.get(lo + child));
+            i = child;
+        }
+        a.set(lo + i, value);
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * 11. LSD Radix Sort
+     * Algorithm: Non-comparison sort on the four bytes of each int, least significant byte first.
+     * Each pass is a stable counting sort into the scratch buffer, and the roles of array and buffer
+     * swap between passes. The sign bit of the top byte is flipped so negative numbers sort before
+     * positive ones. All four histograms are built in a single scan, and passes in which every
+     * element has the same byte are skipped.
+     * Time Complexity:
+     * - Best Case: O(n)
+     * - Worst Case: O(n) (4 passes of n elements each)
+     * - Average Case: O(n)
+     */
+    public static void radixSort(int[] arr) {
+        if (arr == null || arr.length < 2) return;
+        radixSortBytes(arr, scratchBuffer(arr.length), 0, arr.length, 0, 3);
+    }
+
+    /**
+     * 12. Parallel MSD Radix Sort
+     * Algorithm: The array is split into chunks. Each thread builds a histogram of the most significant
+     * (sign-flipped) byte for its chunk, and the chunks are then scattered in parallel into 256 buckets.
+     * The buckets are independent, so they are sorted in parallel on the lower three bytes by the LSD
+     * passes above, or by insertion sort if they are tiny.
+     * Time Complexity:
+     * - Best Case: O(n)
+     * - Worst Case: O(n)
+     * - Average Case: O(n)
+     * Span: O(n / p) for p threads when the buckets are balanced.
+     */
+    public static void parallelRadixSort(int[] arr) {
+        if (arr == null || arr.length < 2) return;
+        int n = arr.length;
+        if (n < PARALLEL_RADIX_THRESHOLD) {
+            radixSort(arr);
+            return;
+        }
+        int[] buffer = new int[n];
+        int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / 4096);
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        int[][] offsets = new int[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] count = new int[256];
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) count[radixDigit(arr[i], 3)]++;
+            offsets[c] = count;
+        });
+
+        // Bucket b of chunk c starts after all of bucket b from earlier chunks.
+        int[] bucketStart = new int[257];
+        int sum = 0;
+        for (int b = 0; b < 256; b++) {
+            bucketStart[b] = sum;
+            for (int c = 0; c < chunks; c++) {
+                int count = offsets[c][b];
+                offsets[c][b] = sum;
+                sum += count;
+            }
+        }
+        bucketStart[256] = n;
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] next = offsets[c];
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                int v = arr[i];
+                buffer[next[radixDigit(v, 3)]++] = v;
+            }
+        });
+
+        IntStream.range(0, 256).parallel().forEach(b -> {
+            int lo = bucketStart[b], hi = bucketStart[b + 1];
+            if (hi - lo <= QUICKSORT_INSERTION_THRESHOLD) {
+                insertionSort(buffer, lo, hi, lo + 1);
+            } else {
+                radixSortBytes(buffer, arr, lo, hi, 0, 2);
+            }
+            System.arraycopy(buffer, lo, arr, lo, hi - lo);
+        });
+    }
+
+    /** Below this length parallelRadixSort falls back to the sequential LSD sort. */
+    private static final int PARALLEL_RADIX_THRESHOLD = 1 << 16;
+
+    /**
+     * Sorts a[lo..hi) by bytes firstByte..lastByte (0 = least significant) with LSD counting-sort
+     * passes, using b[lo..hi) as scratch. The result is left in a.
+     */
+    private static void radixSortBytes(int[] a, int[] b, int lo, int hi, int firstByte, int lastByte) {
+        int n = hi - lo;
+        int[][] counts = new int[4][256];
+        for (int i = lo; i < hi; i++) {
+            int v = a[i];
+            for (int d = firstByte; d <= lastByte; d++) counts[d][radixDigit(v, d)]++;
+        }
+        int[] src = a, dst = b;
+        for (int d = firstByte; d <= lastByte; d++) {
+            int[] count = counts[d];
+            if (count[radixDigit(src[lo], d)] == n) continue; // every element has the same byte here
+            int next = lo;
+            for (int k = 0; k < 256; k++) {
+                int c = count[k];
+                count[k] = next;
+                next += c;
+            }
+            for (int i = lo; i < hi; i++) {
+                int v = src[i];
+                dst[count[radixDigit(v, d)]++] = v;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != a) System.arraycopy(src, lo, a, lo, n);
+    }
+
+    /** Byte d of v, with the sign bit of the top byte flipped so signed order matches unsigned byte order. */
+    private static int radixDigit(int v, int d) {
+        return ((v >>> (d << 3)) & 0xFF) ^ (d == 3 ? 0x80 : 0);
+    }
+
+    /**
+     * Returns the end of the run starting at lo, reversing it first if it is strictly descending.
+     */
+    private static int countRunAndMakeAscending(int[] arr, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) return hi;
+        if (arr[runHi++] < arr[lo]) {
+            while (runHi < hi && arr[runHi] < arr[runHi - 1]) runHi++;
+            for (int i = lo, j = runHi - 1; i < j; i++, j--) {
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        } else {
+            while (runHi < hi && arr[runHi] >= arr[runHi - 1]) runHi++;
+        }
+        return runHi;
+    }
+
+    /**
+     * Insertion sort on arr[lo..hi), where arr[lo..start) is already sorted.
+     */
+    private static void insertionSort(int[] arr, int lo, int hi, int start) {
+        for (int i = Math.max(start, lo + 1); i < hi; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Minimum run length for an array of length n: n itself if small, otherwise a value in
+     * [16, 32] chosen so that n / minRun is close to, but not above, a power of two.
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= HYBRID_MIN_MERGE) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Sequentially merges the sorted runs src[lo1..hi1) and src[lo2..hi2) into dst starting at out.
+     */
+    private static void mergeRuns(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+        int i = lo1, j = lo2, k = out;
+        while (i < hi1 && j < hi2) {
+            if (src[i] <= src[j]) {
+                dst[k++] = src[i++];
+            } else {
+                dst[k++] = src[j++];
+            }
+        }
+        while (i < hi1) dst[k++] = src[i++];
+        while (j < hi2) dst[k++] = src[j++];
+    }
+
+    /** First index in arr[lo..hi) whose value is not less than key. */
+    private static int lowerBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /** First index in arr[lo..hi) whose value is greater than key. */
+    private static int upperBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // --- BUFFER VARIANTS ---
+    // IntBuffer counterparts of the searches and of introsort, so that datasets mapped with
+    // IO.MappedDataset can be searched and sorted in place without copying them onto the heap.
+    // Every access uses absolute get/put, so the buffer's position and limit are ignored.
+
+    public static int sequentialSearch(IntBuffer data, int key) {
+        if (data == null) return -1;
+        int n = data.capacity();
+        for (int i = 0; i < n; i++) {
+            if (data.get(i) == key) return i;
+        }
+        return -1;
+    }
+
+    public static int binarySearch(IntBuffer data, int key) {
+        if (data == null) return -1;
+        int low = 0;
+        int high = data.capacity() - 1;
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+            int value = data.get(mid);
+            if (value == key) return mid;
+            if (value < key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    /** Ranges of a buffer at or below this length are copied to the heap and sorted as an int[]. */
+    private static final int BUFFER_SORT_CHUNK = 1 << 20;
+
+    /**
+     * Introsort directly on a (typically memory-mapped) buffer, in place. The top levels partition
+     * the buffer itself (through BufferSlots); once a range fits in BUFFER_SORT_CHUNK values it is
+     * read into a reusable int[] with one bulk get, sorted by the int[] introsort, and written back.
+     * Apart from that 4 MB chunk it needs no auxiliary array.
+     */
+    public static void introSort(IntBuffer data) {
+        if (data == null || data.capacity() < 2) return;
+        int n = data.capacity();
+        int[] chunk = new int[Math.min(n, BUFFER_SORT_CHUNK)];
+        introSort(new BufferSlots(data), data, 0, n, 2 * (31 - Integer.numberOfLeadingZeros(n)), chunk);
+    }
+
+    /** Sorts data[lo..hi); the same loop as introSort(IntSlots, ...) above it hands ranges to the heap. */
+    private static void introSort(BufferSlots slots, IntBuffer data, int lo, int hi, int depthLimit, int[] chunk) {
+        while (hi - lo > chunk.length) {
+            if (depthLimit == 0) {
+                heapSort(slots, lo, hi);
+                return;
+            }
+            depthLimit--;
+            int split = hoarePartition(slots, lo, hi) + 1;
+            if (split - lo < hi - split) {
+                introSort(slots, data, lo, split, depthLimit, chunk);
+                lo = split;
+            } else {
+                introSort(slots, data, split, hi, depthLimit, chunk);
+                hi = split;
+            }
+        }
+        int length = hi - lo;
+        data.get(lo, chunk, 0, length);
+        introSort(new ArraySlots(chunk), 0, length, depthLimit);
+        data.put(lo, chunk, 0, length);
+    }
+
     // --- REFACTORED HELPER METHODS ---
 
     /**
      * Gets an array of integers from user input.
      */
-    private static int[] getArrayFromUser(Scanner scanner) {
-        System.out.print("Enter number of elements in array: ");
-        int n = getIntInput(scanner);
-        if (n <= 0) {
+    private static int[] getArrayFromUser(FastReader reader) {
+        System.out.print("Enter number of elements in array (0 to load from a text file, -1 to generate): ");
+        int n = getIntInput(reader);
+        if (n == 0) {
+            return loadArrayFromFile(reader);
+        }
+        if (n == -1) {
+            return generateArray(reader);
+        }
+        if (n < 0) {
             System.out.println("Array size must be positive.");
             return null;
         }
         int[] arr = new int[n];
         System.out.println("Enter array elements:");
         for (int i = 0; i < n; i++) {
-            arr[i] = getIntInput(scanner);
+            arr[i] = getIntInput(reader);
         }
         return arr;
     }
 
+    /**
+     * Bulk-loads every integer (separated by whitespace or commas) from a text file.
+     */
+    private static int[] loadArrayFromFile(FastReader reader) {
+        reader.nextLine(); // consume the rest of the size line
+        System.out.print("Enter text file path: ");
+        Path path = Paths.get(reader.nextLine().trim());
+        try (FastReader file = FastReader.open(path)) {
+            int[] arr = file.readAllInts();
+            System.out.println("Loaded " + arr.length + " values from " + path);
+            return arr.length > 0 ? arr : null;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not load file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Generates an array with DatasetGenerator from a distribution, size and seed chosen by the user.
+     */
+    private static int[] generateArray(FastReader reader) {
+        DatasetGenerator.Distribution distribution = chooseDistribution(reader);
+        if (distribution == null) return null;
+        System.out.print("Enter number of elements: ");
+        int n = getIntInput(reader);
+        if (n <= 0) {
+            System.out.println("Array size must be positive.");
+            return null;
+        }
+        System.out.print("Enter seed: ");
+        long seed = getLongInput(reader);
+        double parameter = chooseParameter(reader, distribution, n);
+
+        try {
+            long startTime = System.nanoTime();
+            int[] arr = DatasetGenerator.generate(distribution, n, seed, parameter);
+            long duration = System.nanoTime() - startTime;
+            System.out.println("Generated " + n + " values (" + distribution.description() + ") in " + duration / 1_000_000 + " ms");
+            return arr;
+        } catch (IllegalArgumentException | OutOfMemoryError e) {
+            System.out.println("Could not generate array: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes a generated dataset straight to a binary int32 file, for the memory-mapped search and
+     * sort options and ExternalSort.
+     */
+    private static void runGenerateDatasetFile(FastReader reader) {
+        DatasetGenerator.Distribution distribution = chooseDistribution(reader);
+        if (distribution == null) return;
+        System.out.print("Enter number of elements: ");
+        int n = getIntInput(reader);
+        if (n <= 0) {
+            System.out.println("Size must be positive.");
+            return;
+        }
+        System.out.print("Enter seed: ");
+        long seed = getLongInput(reader);
+        double parameter = chooseParameter(reader, distribution, n);
+        reader.nextLine(); // consume the rest of the previous line
+        System.out.print("Enter output file path: ");
+        Path path = Paths.get(reader.nextLine().trim());
+
+        try {
+            long startTime = System.nanoTime();
+            DatasetGenerator.generateFile(path, distribution, n, seed, parameter);
+            long duration = System.nanoTime() - startTime;
+            System.out.println("Wrote " + n + " values (" + distribution.description() + ") to " + path + " in " + duration / 1_000_000 + " ms");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not generate file: " + e.getMessage());
+        }
+    }
+
+    private static DatasetGenerator.Distribution chooseDistribution(FastReader reader) {
+        DatasetGenerator.Distribution[] distributions = DatasetGenerator.Distribution.values();
+        System.out.println("Distributions:");
+        for (int i = 0; i < distributions.length; i++) {
+            System.out.println((i + 1) + ". " + distributions[i].description());
+        }
+        System.out.print("Enter your choice: ");
+        int choice = getIntInput(reader);
+        if (choice < 1 || choice > distributions.length) {
+            System.out.println("Invalid choice.");
+            return null;
+        }
+        return distributions[choice - 1];
+    }
+
+    /** Asks for k or s if distribution takes one; 0 keeps the default. */
+    private static double chooseParameter(FastReader reader, DatasetGenerator.Distribution distribution, int n) {
+        double parameter = DatasetGenerator.defaultParameter(distribution, n);
+        if (!distribution.hasParameter()) return parameter;
+        if (distribution == DatasetGenerator.Distribution.ZIPF) {
+            System.out.print("Enter Zipf exponent s (0 for the default, " + parameter + "): ");
+            double s = getDoubleInput(reader);
+            return s == 0 ? parameter : s;
+        }
+        System.out.print("Enter " + (distribution == DatasetGenerator.Distribution.NEARLY_SORTED ? "number of swaps" : "number of unique values")
+                + " (0 for the default, " + (long) parameter + "): ");
+        int value = getIntInput(reader);
+        return value == 0 ? parameter : value;
+    }
+
+    /**
+     * Times a sort over a geometric series of sizes with ComplexityAnalyzer and reports the
+     * measured growth next to the claimed average-case complexity.
+     */
+    private static void runComplexityAnalyzer(FastReader reader) {
+        String[] names = ComplexityAnalyzer.SORTS.keySet().toArray(new String[0]);
+        System.out.println("Sorting algorithms:");
+        for (int i = 0; i < names.length; i++) {
+            System.out.println((i + 1) + ". " + names[i] + " (claimed " + ComplexityAnalyzer.CLAIMED.get(names[i]) + ")");
+        }
+        System.out.print("Enter your choice: ");
+        int choice = getIntInput(reader);
+        if (choice < 1 || choice > names.length) {
+            System.out.println("Invalid choice.");
+            return;
+        }
+        String name = names[choice - 1];
+        DatasetGenerator.Distribution distribution = chooseDistribution(reader);
+        if (distribution == null) return;
+        System.out.print("Enter smallest size: ");
+        int minSize = getIntInput(reader);
+        System.out.print("Enter largest size: ");
+        int maxSize = getIntInput(reader);
+        System.out.print("Enter repeats per size (the median is used): ");
+        int repeats = getIntInput(reader);
+
+        System.out.println("Measuring " + name + " on sizes " + minSize + " to " + maxSize + " (doubling; warm-up first)...");
+        try {
+            ComplexityAnalyzer.Result result = ComplexityAnalyzer.analyze(ComplexityAnalyzer.SORTS.get(name), distribution,
+                    minSize, maxSize, 2, 2, repeats, 42, 2_000_000_000L);
+            System.out.println("\n--- " + name + " Complexity Analysis (" + distribution.description() + ") ---");
+            System.out.print(ComplexityAnalyzer.report(result, ComplexityAnalyzer.CLAIMED.get(name)));
+        } catch (IllegalArgumentException | OutOfMemoryError e) {
+            System.out.println("Could not analyze: " + e.getMessage());
+        }
+    }
+
+    /** Arrays.toString for small arrays; the first and last 10 elements of large ones. */
+    private static String formatArray(int[] arr) {
+        if (arr.length <= 100) return Arrays.toString(arr);
+        return Arrays.toString(Arrays.copyOf(arr, 10)).replace("]", ", ...") + " (" + (arr.length - 20) + " more) ..., "
+                + Arrays.toString(Arrays.copyOfRange(arr, arr.length - 10, arr.length)).substring(1);
+    }
+
     /**
      * Generic method to run a sorting algorithm and display its performance.
      */
-    private static void runSortingAlgorithm(Scanner scanner, String name, Consumer<int[]> sorter, String best, String avg, String worst) {
-        int[] arr = getArrayFromUser(scanner);
+    private static void runSortingAlgorithm(FastReader reader, String name, Consumer<int[]> sorter, String best, String avg, String worst) {
+        int[] arr = getArrayFromUser(reader);
         if (arr == null) return;
 
+        long allocatedBefore = currentThreadAllocatedBytes();
         long startTime = System.nanoTime();
         sorter.accept(arr);
         long endTime = System.nanoTime();
+        long allocated = currentThreadAllocatedBytes() - allocatedBefore;
         long duration = endTime - startTime;
 
         System.out.println("\n--- " + name + " Results ---");
-        System.out.println("Sorted Array: " + Arrays.toString(arr));
+        System.out.println("Sorted Array: " + formatArray(arr));
         System.out.println("Empirical Running Time: " + duration + " ns");
+        if (allocatedBefore >= 0) {
+            System.out.println("Bytes Allocated (calling thread): " + allocated + " bytes");
+        }
         System.out.println("Theoretical Time Complexity:");
         System.out.println("  - Best Case: " + best);
         System.out.println("  - Average Case: " + avg);
         System.out.println("  - Worst Case: " + worst);
     }
 
+    /**
+     * Sorts a file of ints that may be larger than memory with ExternalSort and displays its performance.
+     */
+    private static void runExternalSort(FastReader reader) {
+        reader.nextLine(); // consume the rest of the menu choice line
+        System.out.print("Enter input file path: ");
+        Path input = Paths.get(reader.nextLine().trim());
+        System.out.print("Input format (1 = binary little-endian int32, 2 = text): ");
+        ExternalSort.Format inputFormat = getIntInput(reader) == 1 ? ExternalSort.Format.BINARY : ExternalSort.Format.TEXT;
+        reader.nextLine();
+        System.out.print("Enter output file path: ");
+        Path output = Paths.get(reader.nextLine().trim());
+        System.out.print("Output format (1 = binary little-endian int32, 2 = text): ");
+        ExternalSort.Format outputFormat = getIntInput(reader) == 1 ? ExternalSort.Format.BINARY : ExternalSort.Format.TEXT;
+        System.out.print("Memory budget in MB (0 for the default of " + (ExternalSort.DEFAULT_MEMORY_BUDGET >> 20) + "): ");
+        int budgetMb = getIntInput(reader);
+        long budget = budgetMb > 0 ? budgetMb * (1L << 20) : ExternalSort.DEFAULT_MEMORY_BUDGET;
+
+        try {
+            long startTime = System.nanoTime();
+            ExternalSort.Result result = ExternalSort.sort(input, inputFormat, output, outputFormat, budget);
+            long duration = System.nanoTime() - startTime;
+
+            System.out.println("\n--- External Merge Sort Results ---");
+            System.out.println("Sorted " + result.count + " values into " + output);
+            System.out.println("Initial sorted runs: " + result.runs + ", merge passes: " + result.mergePasses);
+            System.out.println("Empirical Running Time: " + duration + " ns");
+            System.out.println("Theoretical Time Complexity:");
+            System.out.println("  - Best Case: O(n log n)");
+            System.out.println("  - Average Case: O(n log n)");
+            System.out.println("  - Worst Case: O(n log n)");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("External sort failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Maps a binary int32 file and searches it in place.
+     */
+    private static void runMappedSearch(FastReader reader) {
+        reader.nextLine(); // consume the rest of the menu choice line
+        System.out.print("Enter binary data file path (little-endian int32): ");
+        Path path = Paths.get(reader.nextLine().trim());
+        System.out.print("Search with 1 = Sequential Search, 2 = Binary Search (file must be sorted): ");
+        boolean binary = getIntInput(reader) == 2;
+        System.out.print("Enter key to search for: ");
+        int key = getIntInput(reader);
+
+        try {
+            IntBuffer data = MappedDataset.open(path, false).asInts();
+            long startTime = System.nanoTime();
+            int result = binary ? binarySearch(data, key) : sequentialSearch(data, key);
+            long duration = System.nanoTime() - startTime;
+
+            String name = binary ? "Binary Search" : "Sequential Search";
+            System.out.println("\n--- " + name + " Results (" + data.capacity() + " mapped values) ---");
+            if (result != -1) {
+                System.out.println("Value '" + key + "' found at index: " + result);
+            } else {
+                System.out.println("Value '" + key + "' not found in the file.");
+            }
+            System.out.println("Empirical Running Time: " + duration + " ns");
+            System.out.println("Theoretical Time Complexity: " + (binary ? "O(log n)" : "O(n)") + " (worst case)");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not search file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Maps a binary int32 file read-write and sorts it in place with introsort.
+     */
+    private static void runMappedSort(FastReader reader) {
+        reader.nextLine(); // consume the rest of the menu choice line
+        System.out.print("Enter binary data file path (little-endian int32): ");
+        Path path = Paths.get(reader.nextLine().trim());
+
+        try {
+            MappedDataset dataset = MappedDataset.open(path, true);
+            IntBuffer data = dataset.asInts();
+            long startTime = System.nanoTime();
+            introSort(data);
+            dataset.flush();
+            long duration = System.nanoTime() - startTime;
+
+            System.out.println("\n--- Introsort Results (" + data.capacity() + " mapped values) ---");
+            System.out.println("File sorted in place: " + path);
+            System.out.println("Empirical Running Time: " + duration + " ns");
+            System.out.println("Theoretical Time Complexity: O(n log n) (best, average and worst case)");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not sort file: " + e.getMessage());
+        }
+    }
+
+    /** Timed runs of each method in runBatchSearch, after one untimed warm-up run of each. */
+    private static final int BATCH_TIMING_ROUNDS = 5;
+
+    /**
+     * Reads the array once, then a whole list of keys, and answers them with one batchSearch call.
+     * The same keys are also looked up one binarySearch at a time for comparison.
+     */
+    private static void runBatchSearch(FastReader reader) {
+        System.out.println("Array to search:");
+        int[] arr = getArrayFromUser(reader);
+        if (arr == null) return;
+        Arrays.sort(arr);
+        System.out.println("Keys to look up:");
+        int[] keys = getArrayFromUser(reader);
+        if (keys == null) return;
+
+        int[] result = batchSearch(arr, keys);
+        int perKeyFound = countFoundPerKey(arr, keys);
+        long[] batchTimes = new long[BATCH_TIMING_ROUNDS];
+        long[] perKeyTimes = new long[BATCH_TIMING_ROUNDS];
+        for (int round = 0; round < BATCH_TIMING_ROUNDS; round++) {
+            // Alternate which method goes first, so neither always finds the other's data in cache.
+            for (int turn = 0; turn < 2; turn++) {
+                boolean batch = (round + turn) % 2 == 0;
+                long startTime = System.nanoTime();
+                if (batch) result = batchSearch(arr, keys); else perKeyFound = countFoundPerKey(arr, keys);
+                long elapsed = System.nanoTime() - startTime;
+                if (batch) batchTimes[round] = elapsed; else perKeyTimes[round] = elapsed;
+            }
+        }
+        Arrays.sort(batchTimes);
+        Arrays.sort(perKeyTimes);
+
+        int found = 0;
+        for (int index : result) {
+            if (index != -1) found++;
+        }
+        if (found != perKeyFound) {
+            System.out.println("Error: batchSearch found " + found + " keys but binarySearch found " + perKeyFound + ".");
+            return;
+        }
+        System.out.println("\n--- Batch Search Results (" + keys.length + " keys, " + arr.length + " values) ---");
+        System.out.println("Plan: " + (useMergeJoin(arr.length, keys) ? "sorted-key merge join" : "binary search per key"));
+        if (keys.length <= 20) {
+            for (int q = 0; q < keys.length; q++) {
+                System.out.println("Value '" + keys[q] + "' " + (result[q] != -1 ? "found at index: " + result[q] + " (in the sorted array)" : "not found"));
+            }
+        }
+        System.out.println("Found " + found + " of " + keys.length + " keys.");
+        System.out.println("Empirical Running Time: " + batchTimes[BATCH_TIMING_ROUNDS / 2] + " ns ("
+                + perKeyTimes[BATCH_TIMING_ROUNDS / 2] + " ns with one binary search per key), median of " + BATCH_TIMING_ROUNDS + " runs each");
+        System.out.println("(For steady-state numbers, run the SearchAndSort.batchSearch entry of Benchmarks.AlgorithmBenchmark.)");
+        System.out.println("Theoretical Time Complexity: O(min(m log n, n + m log m)) for m keys");
+    }
+
+    /** One binarySearch per key; returns how many were found, which also keeps the calls from being dead code. */
+    private static int countFoundPerKey(int[] arr, int[] keys) {
+        int found = 0;
+        for (int key : keys) {
+            if (binarySearch(arr, key) != -1) found++;
+        }
+        return found;
+    }
+
+    /**
+     * Builds an EytzingerIndex over the array and reports the lower bound, upper bound and equal
+     * range of a key, i.e. where it is or would be inserted and how many times it occurs.
+     */
+    private static void runEytzingerSearch(FastReader reader) {
+        int[] arr = getArrayFromUser(reader);
+        if (arr == null) return;
+        System.out.print("Enter key to search for: ");
+        int key = getIntInput(reader);
+
+        long buildStart = System.nanoTime();
+        EytzingerIndex index = EytzingerIndex.build(arr);
+        long buildDuration = System.nanoTime() - buildStart;
+
+        long startTime = System.nanoTime();
+        int lower = index.lowerBound(key);
+        int upper = index.upperBound(key);
+        long duration = System.nanoTime() - startTime;
+
+        System.out.println("\n--- Eytzinger Index Search Results ---");
+        if (arr.length <= 100) {
+            int[] sorted = arr.clone();
+            Arrays.sort(sorted);
+            System.out.println("Sorted Array: " + Arrays.toString(sorted));
+        }
+        if (upper > lower) {
+            System.out.println("Value '" + key + "' found at indices " + lower + " to " + (upper - 1) + " (in the sorted array), "
+                    + (upper - lower) + " occurrence(s)");
+        } else {
+            System.out.println("Value '" + key + "' not found; it would be inserted at index " + lower + " (in the sorted array)");
+        }
+        System.out.println("Lower bound: " + lower + ", upper bound: " + upper + ", equal range: [" + lower + ", " + upper + ")");
+        System.out.println("Index Build Time: " + buildDuration + " ns");
+        System.out.println("Empirical Running Time: " + duration + " ns (lower and upper bound)");
+        System.out.println("Theoretical Time Complexity: O(log n) per bound (best, average and worst case)");
+    }
+
+    /** A search over an int array: like BiFunction<int[], Integer, Integer>, without boxing the key or the index. */
+    @FunctionalInterface
+    interface IntArraySearch {
+        int search(int[] arr, int key);
+    }
+
     /**
      * Generic method to run a searching algorithm and display its performance.
      */
-    private static void runSearchingAlgorithm(Scanner scanner, String name, BiFunction<int[], Integer, Integer> searcher, String best, String avg, String worst) {
-        int[] arr = getArrayFromUser(scanner);
+    private static void runSearchingAlgorithm(FastReader reader, String name, IntArraySearch searcher, ProbeCounter counter,
+                                              String best, String avg, String worst) {
+        int[] arr = getArrayFromUser(reader);
         if (arr == null) return;
 
-        if (name.equals("Binary Search")) {
+        boolean needsSorted = !name.equals("Sequential Search");
+        if (needsSorted) {
             Arrays.sort(arr);
-            System.out.println("Note: Binary Search requires a sorted array. The input array has been sorted:");
-            System.out.println("Sorted Array: " + Arrays.toString(arr));
+            System.out.println("Note: " + name + " requires a sorted array. The input array has been sorted:");
+            System.out.println("Sorted Array: " + formatArray(arr));
         }
 
         System.out.print("Enter key to search for: ");
-        int key = getIntInput(scanner);
+        int key = getIntInput(reader);
 
         long startTime = System.nanoTime();
-        int result = searcher.apply(arr, key);
+        int result = searcher.search(arr, key);
         long endTime = System.nanoTime();
         long duration = endTime - startTime;
 
         System.out.println("\n--- " + name + " Results ---");
         if (result != -1) {
-            System.out.println("Value '" + key + "' found at index: " + result + (name.equals("Binary Search") ? " (in the sorted array)" : ""));
+            System.out.println("Value '" + key + "' found at index: " + result + (needsSorted ? " (in the sorted array)" : ""));
         } else {
             System.out.println("Value '" + key + "' not found in the array.");
         }
+        if (counter != null) {
+            System.out.println("Probes: " + counter.probes + " (binary search needs up to " + (32 - Integer.numberOfLeadingZeros(arr.length)) + ")");
+        }
         System.out.println("Empirical Running Time: " + duration + " ns");
         System.out.println("Theoretical Time Complexity:");
         System.out.println("  - Best Case: " + best);
@@ -332,15 +1814,59 @@ class SearchAndSort {
     }
 
     /**
-     * Safely reads an integer from the scanner, handling invalid input.
+     * Returns the number of bytes allocated so far by the current thread, or -1 if the JVM
+     * does not support allocation measurement. Allocations made by worker threads
+     * (e.g. in parallelMergeSort) are not included.
+     */
+    public static long currentThreadAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Safely reads a number from the reader, handling invalid input.
+     */
+    private static double getDoubleInput(FastReader reader) {
+        while (true) {
+            try {
+                return reader.nextDouble();
+            } catch (InputMismatchException e) {
+                System.out.print("Invalid input. Please enter a number: ");
+                reader.nextLine(); // Clear the invalid input from the reader buffer
+            }
+        }
+    }
+
+    /**
+     * Safely reads an integer from the reader, handling invalid input.
+     */
+    private static int getIntInput(FastReader reader) {
+        while (true) {
+            try {
+                return reader.nextInt();
+            } catch (InputMismatchException e) {
+                System.out.print("Invalid input. Please enter an integer: ");
+                reader.nextLine(); // Clear the invalid input from the reader buffer
+            }
+        }
+    }
+
+    /**
+     * Safely reads a long from the reader, handling invalid input.
      */
-    private static int getIntInput(Scanner scanner) {
+    private static long getLongInput(FastReader reader) {
         while (true) {
             try {
-                return scanner.nextInt();
+                return reader.nextLong();
             } catch (InputMismatchException e) {
                 System.out.print("Invalid input. Please enter an integer: ");
-                scanner.nextLine(); // Clear the invalid input from the scanner buffer
+                reader.nextLine(); // Clear the invalid input from the reader buffer
             }
         }
     }
@@ -1,22 +1,114 @@
 package DSA2;
 import javafx.application.Application;
+import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
+import java.util.AbstractList;
 import java.util.Arrays;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * JavaFX front end for SearchAndSort.
+ *
+ * Each run is a javafx.concurrent.Task, so parsing, the algorithm and formatting the result
+ * all happen off the JavaFX Application Thread; the window only changes when the task reports
+ * progress or finishes. The task hands the algorithm to a second worker and waits for it with
+ * a timeout, updating the elapsed time shown in the status bar. Cancel and the timeout abandon
+ * the run at once: the UI is released, the result is discarded and the algorithm's thread is
+ * interrupted. The sorts that can take quadratic time (bubble, insertion, dual-pivot quicksort)
+ * stop at their next pass; the others run to completion on their own copy of the input. There
+ * is a single algorithm thread, and a new run is refused while an abandoned one still holds it.
+ *
+ * Arrays are never turned into one big string. The results area gets summary statistics and
+ * the first and last few elements; the whole array goes to a ListView whose items are views
+ * of the int[] (see ArrayRows), so only the rows on screen are ever formatted and showing a
+ * result costs the same for 10 elements as for 10 million.
+ */
 public class SearchAndSortGUI extends Application {
 
+    private static final int DEFAULT_TIMEOUT_SECONDS = 60;
+    /** How often the status bar's elapsed time is refreshed while an algorithm runs. */
+    private static final long STATUS_INTERVAL_MILLIS = 200;
+    /** Parsed tokens between progress updates; each update is posted to the Application Thread. */
+    private static final int PARSE_PROGRESS_STEP = 1 << 16;
+    /** Elements shown from each end of the array in the results summary. */
+    private static final int PREVIEW_ELEMENTS = 10;
+    private static final String TYPED_INPUT = "Typed values";
+
+    /** Runs the tasks: parsing or generating the input, waiting on the algorithm and formatting the result. */
+    private static final ExecutorService TASKS = Executors.newSingleThreadExecutor(daemonThreads("search-and-sort-task"));
+    /** Runs the algorithms themselves; one thread, so abandoned runs cannot pile up. */
+    private static final ExecutorService ALGORITHMS = Executors.newSingleThreadExecutor(daemonThreads("search-and-sort-algorithm"));
+    /** Whether ALGORITHMS is busy, including with a run that was cancelled or timed out but has not stopped yet. */
+    private static volatile boolean algorithmRunning;
+
     private ComboBox<String> algorithmTypeComboBox;
     private ComboBox<String> algorithmComboBox;
+    private ComboBox<String> inputSourceComboBox;
     private TextField arrayInputTextField;
+    private TextField sizeTextField;
+    private TextField seedTextField;
+    private TextField parameterTextField;
+    private HBox generatorBox;
     private TextField keyInputTextField;
     private Label keyInputLabel;
+    private TextField timeoutTextField;
     private Button runButton;
+    private Button cancelButton;
+    private ProgressBar progressBar;
+    private Label statusLabel;
     private TextArea resultTextArea;
+    private Label arrayLabel;
+    private ListView<String> arrayListView;
+    private TextField goToIndexTextField;
+    private Button goToIndexButton;
+    private VBox arrayBox;
+    private Task<RunResult> currentTask;
+
+    /** What a run produces: the report text and the array to page through (null if none). */
+    private static class RunResult {
+        final String text;
+        final int[] array;
+
+        RunResult(String text, int[] array) {
+            this.text = text;
+            this.array = array;
+        }
+    }
+
+    /**
+     * The rows of the array list view, "index: value", made on demand. ListView only asks for
+     * the rows it is about to draw, so nothing is formatted (or allocated) for the others.
+     */
+    private static class ArrayRows extends AbstractList<String> {
+        private final int[] array;
+
+        ArrayRows(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public String get(int index) {
+            return index + ": " + array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
 
     public static void main(String[] args) {
         launch(args);
@@ -38,6 +130,7 @@ public class SearchAndSortGUI extends Application {
         // Set the initial state of the UI
         updateAlgorithmChoices();
         updateKeyFieldVisibility();
+        updateInputFields();
 
         // Set up the scene and show the stage
         Scene scene = new Scene(root, 650, 600);
@@ -56,10 +149,29 @@ public class SearchAndSortGUI extends Application {
         algorithmComboBox.setMaxWidth(Double.MAX_VALUE);
 
         // Input Fields
+        inputSourceComboBox = new ComboBox<>();
+        inputSourceComboBox.getItems().add(TYPED_INPUT);
+        for (DatasetGenerator.Distribution d : DatasetGenerator.Distribution.values()) {
+            inputSourceComboBox.getItems().add(d.description());
+        }
+        inputSourceComboBox.setValue(TYPED_INPUT);
+        inputSourceComboBox.setMaxWidth(Double.MAX_VALUE);
+
         arrayInputTextField = new TextField();
         arrayInputTextField.setMaxWidth(Double.MAX_VALUE);
         arrayInputTextField.setPromptText("e.g., 5, 1, 9, 3, 7");
 
+        // Dataset generator settings, shown when the input is generated
+        sizeTextField = new TextField("1000000");
+        sizeTextField.setPromptText("Size");
+        seedTextField = new TextField("42");
+        seedTextField.setPromptText("Seed");
+        parameterTextField = new TextField();
+        parameterTextField.setPromptText("k or s (optional)");
+        parameterTextField.setTooltip(new Tooltip("Swaps for nearly sorted, unique values for few unique, exponent for Zipf; empty for the default."));
+        generatorBox = new HBox(10, new Label("Size:"), sizeTextField, new Label("Seed:"), seedTextField, parameterTextField);
+        generatorBox.setAlignment(Pos.CENTER_LEFT);
+
         keyInputLabel = new Label("Enter key to search for:");
         keyInputTextField = new TextField();
         keyInputTextField.setMaxWidth(Double.MAX_VALUE);
@@ -68,9 +180,30 @@ public class SearchAndSortGUI extends Application {
         resultTextArea = new TextArea();
         resultTextArea.setEditable(false);
         resultTextArea.setWrapText(true);
+        resultTextArea.setPrefRowCount(10);
+
+        // Array view
+        arrayLabel = new Label();
+        arrayListView = new ListView<>();
+        // Every row is one line, so a fixed height spares the list from measuring each cell.
+        arrayListView.setFixedCellSize(24);
+        goToIndexTextField = new TextField();
+        goToIndexTextField.setPromptText("Index");
+        goToIndexTextField.setPrefWidth(100);
+        goToIndexButton = new Button("Go");
+
+        timeoutTextField = new TextField(String.valueOf(DEFAULT_TIMEOUT_SECONDS));
+        timeoutTextField.setMaxWidth(Double.MAX_VALUE);
 
         //Buttons
         runButton = new Button("Run Algorithm");
+        cancelButton = new Button("Cancel");
+        cancelButton.setDisable(true);
+
+        // Progress of the current run
+        progressBar = new ProgressBar();
+        progressBar.setVisible(false);
+        statusLabel = new Label("Ready.");
     }
 
     private BorderPane createLayout() {
@@ -86,14 +219,25 @@ public class SearchAndSortGUI extends Application {
 
         // Center: Controls and Inputs
         GridPane grid = createInputGrid();
-        VBox centerBox = new VBox(grid, runButton);
+        HBox buttonBox = new HBox(10, runButton, cancelButton);
+        buttonBox.setAlignment(Pos.CENTER);
+        HBox statusBox = new HBox(10, progressBar, statusLabel);
+        statusBox.setAlignment(Pos.CENTER_LEFT);
+        VBox centerBox = new VBox(grid, buttonBox, statusBox);
         centerBox.getStyleClass().add("vbox");
         VBox.setVgrow(grid, Priority.ALWAYS);
         root.setCenter(centerBox);
 
         // Bottom: Results
-        VBox resultBox = new VBox(new Label("Results:"), resultTextArea);
+        HBox arrayHeader = new HBox(10, arrayLabel, goToIndexTextField, goToIndexButton);
+        arrayHeader.setAlignment(Pos.CENTER_LEFT);
+        HBox.setHgrow(arrayLabel, Priority.ALWAYS);
+        arrayBox = new VBox(5, arrayHeader, arrayListView);
+        VBox.setVgrow(arrayListView, Priority.ALWAYS);
+        showArray(null);
+        VBox resultBox = new VBox(new Label("Results:"), resultTextArea, arrayBox);
         VBox.setVgrow(resultTextArea, Priority.ALWAYS);
+        VBox.setVgrow(arrayBox, Priority.ALWAYS);
         resultBox.setId("result-box");
         root.setBottom(resultBox);
 
@@ -113,10 +257,16 @@ public class SearchAndSortGUI extends Application {
         grid.add(algorithmTypeComboBox, 1, 0);
         grid.add(new Label("Choose Algorithm:"), 0, 1);
         grid.add(algorithmComboBox, 1, 1);
-        grid.add(new Label("Enter numbers (comma-separated):"), 0, 2);
-        grid.add(arrayInputTextField, 1, 2);
-        grid.add(keyInputLabel, 0, 3);
-        grid.add(keyInputTextField, 1, 3);
+        grid.add(new Label("Input:"), 0, 2);
+        grid.add(inputSourceComboBox, 1, 2);
+        grid.add(new Label("Enter numbers (comma-separated):"), 0, 3);
+        grid.add(arrayInputTextField, 1, 3);
+        grid.add(new Label("Generate:"), 0, 4);
+        grid.add(generatorBox, 1, 4);
+        grid.add(keyInputLabel, 0, 5);
+        grid.add(keyInputTextField, 1, 5);
+        grid.add(new Label("Timeout (seconds):"), 0, 6);
+        grid.add(timeoutTextField, 1, 6);
 
         return grid;
     }
@@ -126,16 +276,24 @@ public class SearchAndSortGUI extends Application {
             updateAlgorithmChoices();
             updateKeyFieldVisibility();
         });
+        inputSourceComboBox.setOnAction(e -> updateInputFields());
         runButton.setOnAction(e -> runSelectedAlgorithm());
+        cancelButton.setOnAction(e -> {
+            if (currentTask != null) currentTask.cancel();
+        });
+        goToIndexButton.setOnAction(e -> goToIndex());
+        goToIndexTextField.setOnAction(e -> goToIndex());
     }
 
     private void updateAlgorithmChoices() {
         algorithmComboBox.getItems().clear();
         String type = algorithmTypeComboBox.getValue();
         if ("Searching".equals(type)) {
-            algorithmComboBox.getItems().addAll("Sequential Search", "Binary Search");
+            algorithmComboBox.getItems().addAll("Sequential Search", "Binary Search", "Eytzinger Index Search",
+                                             "Interpolation Search", "Exponential Search");
         } else { // Sorting
-            algorithmComboBox.getItems().addAll("Bubble Sort", "Insertion Sort", "Merge Sort");
+            algorithmComboBox.getItems().addAll("Bubble Sort", "Insertion Sort", "Merge Sort", "Parallel Merge Sort", "Merge Sort (Scratch Buffer)", "Hybrid Sort",
+                                             "Dual-Pivot Quicksort", "Introsort", "LSD Radix Sort", "Parallel MSD Radix Sort");
         }
         algorithmComboBox.getSelectionModel().selectFirst();
         updateKeyFieldVisibility();
@@ -147,22 +305,61 @@ public class SearchAndSortGUI extends Application {
         keyInputTextField.setVisible(isSearching);
     }
 
+    private void updateInputFields() {
+        boolean generated = !TYPED_INPUT.equals(inputSourceComboBox.getValue());
+        arrayInputTextField.setDisable(generated);
+        generatorBox.setDisable(!generated);
+    }
+
+    /** The distribution chosen in the input list, or null for typed values. */
+    private DatasetGenerator.Distribution selectedDistribution() {
+        for (DatasetGenerator.Distribution d : DatasetGenerator.Distribution.values()) {
+            if (d.description().equals(inputSourceComboBox.getValue())) return d;
+        }
+        return null;
+    }
+
+    /** Daemon threads never block exit. */
+    private static ThreadFactory daemonThreads(String name) {
+        return r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private void runSelectedAlgorithm() {
+        if (algorithmRunning) {
+            resultTextArea.setText("Error: The previous run was abandoned but is still finishing. Please try again in a moment.");
+            return;
+        }
+        // Read the controls here, on the Application Thread; the task only sees these copies.
         String arrayText = arrayInputTextField.getText();
-        if (arrayText.trim().isEmpty()) {
+        DatasetGenerator.Distribution distribution = selectedDistribution();
+        if (distribution == null && arrayText.trim().isEmpty()) {
             resultTextArea.setText("Error: Input array cannot be empty.");
             return;
         }
 
-        int[] array;
-        try {
-            array = Arrays.stream(arrayText.split(","))
-                          .map(String::trim)
-                          .mapToInt(Integer::parseInt)
-                          .toArray();
-        } catch (NumberFormatException e) {
-            resultTextArea.setText("Error: Invalid input. Please enter only comma-separated integers.");
-            return;
+        int size = 0;
+        long seed = 0;
+        double parameter = 0;
+        if (distribution != null) {
+            try {
+                size = Integer.parseInt(sizeTextField.getText().trim());
+                seed = Long.parseLong(seedTextField.getText().trim());
+                if (size <= 0) throw new NumberFormatException();
+            } catch (NumberFormatException e) {
+                resultTextArea.setText("Error: Size must be a positive integer and seed an integer.");
+                return;
+            }
+            String parameterText = parameterTextField.getText().trim();
+            try {
+                parameter = parameterText.isEmpty() ? DatasetGenerator.defaultParameter(distribution, size) : Double.parseDouble(parameterText);
+            } catch (NumberFormatException e) {
+                resultTextArea.setText("Error: Invalid generator parameter. Please enter a number or leave it empty.");
+                return;
+            }
         }
 
         String algorithmName = algorithmComboBox.getValue();
@@ -171,32 +368,181 @@ public class SearchAndSortGUI extends Application {
             return;
         }
 
-        long startTime = System.nanoTime();
+        boolean searching = "Searching".equals(algorithmTypeComboBox.getValue());
+        int key = 0;
+        if (searching) {
+            try {
+                key = Integer.parseInt(keyInputTextField.getText().trim());
+            } catch (NumberFormatException e) {
+                resultTextArea.setText("Error: Invalid search key. Please enter a single integer.");
+                return;
+            }
+        }
 
-        if ("Searching".equals(algorithmTypeComboBox.getValue())) {
-            runSearch(algorithmName, array);
-        } else {
-            runSort(algorithmName, array);
+        int timeoutSeconds;
+        try {
+            timeoutSeconds = Integer.parseInt(timeoutTextField.getText().trim());
+            if (timeoutSeconds <= 0) throw new NumberFormatException();
+        } catch (NumberFormatException e) {
+            resultTextArea.setText("Error: Timeout must be a positive number of seconds.");
+            return;
         }
+
+        final int searchKey = key;
+        final int generatedSize = size;
+        final long generatorSeed = seed;
+        final double generatorParameter = parameter;
+        Task<RunResult> task = new Task<>() {
+            @Override
+            protected RunResult call() throws Exception {
+                int[] array;
+                if (distribution != null) {
+                    updateMessage("Generating " + generatedSize + " values (" + distribution.description() + ")...");
+                    array = DatasetGenerator.generate(distribution, generatedSize, generatorSeed, generatorParameter);
+                } else {
+                    updateMessage("Parsing input...");
+                    array = parse(arrayText);
+                }
+                // Generation does not poll for cancellation, so check before starting the algorithm.
+                if (isCancelled()) return null;
+
+                // The algorithms report no progress of their own, so the bar is indeterminate from here on.
+                updateProgress(-1, 1);
+                FutureTask<RunResult> run = new FutureTask<>(() -> searching ? runSearch(algorithmName, array, searchKey) : runSort(algorithmName, array));
+                // The flag is cleared when the thread is free again, not when the run is abandoned.
+                algorithmRunning = true;
+                ALGORITHMS.execute(() -> {
+                    try {
+                        run.run();
+                    } finally {
+                        algorithmRunning = false;
+                    }
+                });
+                long start = System.nanoTime();
+                long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+                try {
+                    while (true) {
+                        updateMessage(String.format("Running %s on %d elements... %.1f s",
+                                algorithmName, array.length, (System.nanoTime() - start) / 1e9));
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) throw new TimeoutException();
+                        try {
+                            RunResult result = run.get(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(STATUS_INTERVAL_MILLIS)), TimeUnit.NANOSECONDS);
+                            updateMessage("Done.");
+                            return result;
+                        } catch (TimeoutException e) {
+                            // Not finished yet: refresh the elapsed time and keep waiting.
+                        }
+                    }
+                } finally {
+                    // A no-op if the run finished; otherwise (cancel, timeout) the result is abandoned
+                    // and the algorithm's thread interrupted.
+                    run.cancel(true);
+                }
+            }
+
+            /** Parses comma-separated integers, reporting progress. */
+            private int[] parse(String text) {
+                String[] tokens = text.split(",");
+                int[] seen = {0};
+                try {
+                    return Arrays.stream(tokens)
+                                 .peek(token -> reportParseProgress(seen[0]++, tokens.length))
+                                 .map(String::trim)
+                                 .mapToInt(Integer::parseInt)
+                                 .toArray();
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid input. Please enter only comma-separated integers.");
+                }
+            }
+
+            /** Updates the bar every PARSE_PROGRESS_STEP tokens; stops the parse if the task was cancelled. */
+            private void reportParseProgress(int parsed, int total) {
+                if (parsed % PARSE_PROGRESS_STEP != 0) return;
+                // The task is already cancelled, so this exception only ends call() and is not reported.
+                if (isCancelled()) throw new CancellationException();
+                updateProgress(parsed, total);
+            }
+        };
+
+        task.setOnSucceeded(e -> {
+            resultTextArea.setText(task.getValue().text);
+            showArray(task.getValue().array);
+            finishRun("Done.");
+        });
+        task.setOnCancelled(e -> {
+            resultTextArea.setText(algorithmName + " was cancelled.");
+            finishRun("Cancelled.");
+        });
+        task.setOnFailed(e -> {
+            Throwable error = task.getException();
+            // Exceptions thrown by the algorithm itself arrive wrapped by the Future it ran in.
+            if (error instanceof ExecutionException && error.getCause() != null) error = error.getCause();
+            if (error instanceof TimeoutException) {
+                resultTextArea.setText("Error: " + algorithmName + " did not finish within " + timeoutSeconds + " seconds and was abandoned.");
+                finishRun("Timed out.");
+            } else {
+                resultTextArea.setText("Error: " + (error instanceof IllegalArgumentException ? error.getMessage() : String.valueOf(error)));
+                finishRun("Failed.");
+            }
+        });
+
+        currentTask = task;
+        resultTextArea.setText("");
+        showArray(null);
+        statusLabel.textProperty().bind(task.messageProperty());
+        progressBar.progressProperty().bind(task.progressProperty());
+        progressBar.setVisible(true);
+        runButton.setDisable(true);
+        cancelButton.setDisable(false);
+        TASKS.execute(task);
+    }
+
+    /** Returns the controls to their idle state once the current task has ended. */
+    private void finishRun(String status) {
+        currentTask = null;
+        statusLabel.textProperty().unbind();
+        statusLabel.setText(status);
+        progressBar.progressProperty().unbind();
+        progressBar.setVisible(false);
+        runButton.setDisable(false);
+        cancelButton.setDisable(true);
+    }
+
+    /** Shows array in the list view, or hides the view if array is null. */
+    private void showArray(int[] array) {
+        boolean show = array != null;
+        arrayListView.setItems(show ? FXCollections.observableList(new ArrayRows(array)) : FXCollections.emptyObservableList());
+        arrayLabel.setText(show ? "Array (" + array.length + " elements):" : "");
+        arrayBox.setVisible(show);
+        arrayBox.setManaged(show);
     }
 
-    private void runSearch(String name, int[] array) {
-        int key;
+    private void goToIndex() {
+        int size = arrayListView.getItems().size();
         try {
-            key = Integer.parseInt(keyInputTextField.getText().trim());
+            int index = Integer.parseInt(goToIndexTextField.getText().trim());
+            if (index < 0 || index >= size) throw new NumberFormatException();
+            arrayListView.scrollTo(index);
+            arrayListView.getSelectionModel().select(index);
         } catch (NumberFormatException e) {
-            resultTextArea.setText("Error: Invalid search key. Please enter a single integer.");
-            return;
+            arrayLabel.setText("Array (" + size + " elements): enter an index from 0 to " + (size - 1) + ".");
         }
+    }
 
+    /** Runs on a worker thread; returns the report and the array that was searched. */
+    private static RunResult runSearch(String name, int[] array, int key) {
         StringBuilder resultText = new StringBuilder();
         int resultIndex = -1;
+        int lower = -1, upper = -1;
+        SearchAndSort.ProbeCounter counter = null;
         String best = "", avg = "", worst = "";
 
-        if ("Binary Search".equals(name)) {
+        if (!"Sequential Search".equals(name)) {
             Arrays.sort(array);
-            resultText.append("Note: Array was sorted for Binary Search.\nSorted Array: ")
-                      .append(Arrays.toString(array)).append("\n\n");
+            resultText.append("Note: Array was sorted for ").append(name).append(".\n");
+            appendSummary(resultText, array);
+            resultText.append("\n");
         }
 
         long startTime = System.nanoTime();
@@ -209,6 +555,23 @@ public class SearchAndSortGUI extends Application {
                 resultIndex = SearchAndSort.binarySearch(array, key);
                 best = "O(1)"; avg = "O(log n)"; worst = "O(log n)";
                 break;
+            case "Eytzinger Index Search":
+                EytzingerIndex index = EytzingerIndex.build(array);
+                resultIndex = index.search(key);
+                lower = index.lowerBound(key);
+                upper = index.upperBound(key);
+                best = "O(log n)"; avg = "O(log n)"; worst = "O(log n)";
+                break;
+            case "Interpolation Search":
+                counter = new SearchAndSort.ProbeCounter();
+                resultIndex = SearchAndSort.interpolationSearch(array, key, counter);
+                best = "O(1)"; avg = "O(log log n) (uniformly distributed values)"; worst = "O(log n)";
+                break;
+            case "Exponential Search":
+                counter = new SearchAndSort.ProbeCounter();
+                resultIndex = SearchAndSort.exponentialSearch(array, key, counter);
+                best = "O(1)"; avg = "O(log i) (key at index i)"; worst = "O(log n)";
+                break;
         }
         long duration = System.nanoTime() - startTime;
 
@@ -218,12 +581,22 @@ public class SearchAndSortGUI extends Application {
         } else {
             resultText.append("Value '").append(key).append("' not found.\n");
         }
-        
+        if (counter != null) {
+            resultText.append("Probes: ").append(counter.probes).append(" (binary search needs up to ")
+                      .append(32 - Integer.numberOfLeadingZeros(array.length)).append(")\n");
+        }
+        if (lower >= 0) {
+            resultText.append("Lower bound: ").append(lower).append(", upper bound: ").append(upper)
+                      .append(" (").append(upper - lower).append(" occurrence(s))\n");
+        }
+
         appendPerformance(resultText, duration, best, avg, worst);
-        resultTextArea.setText(resultText.toString());
+        return new RunResult(resultText.toString(), array);
     }
 
-    private void runSort(String name, int[] array) {
+    /** Runs on a worker thread; returns the report and the sorted array. */
+    private static RunResult runSort(String name, int[] array) {
+        long allocatedBefore = SearchAndSort.currentThreadAllocatedBytes();
         long startTime = System.nanoTime();
         String best = "", avg = "", worst = "";
 
@@ -240,18 +613,88 @@ public class SearchAndSortGUI extends Application {
                 SearchAndSort.mergeSort(array, 0, array.length - 1);
                 best = "O(n log n)"; avg = "O(n log n)"; worst = "O(n log n)";
                 break;
+            case "Parallel Merge Sort":
+                SearchAndSort.parallelMergeSort(array);
+                best = "O(n log n)"; avg = "O(n log n)"; worst = "O(n log n)";
+                break;
+            case "Merge Sort (Scratch Buffer)":
+                SearchAndSort.bufferedMergeSort(array);
+                best = "O(n log n)"; avg = "O(n log n)"; worst = "O(n log n)";
+                break;
+            case "Hybrid Sort":
+                SearchAndSort.hybridSort(array);
+                best = "O(n)"; avg = "O(n log n)"; worst = "O(n log n)";
+                break;
+            case "Dual-Pivot Quicksort":
+                SearchAndSort.dualPivotQuickSort(array);
+                best = "O(n log n)"; avg = "O(n log n)"; worst = "O(n^2)";
+                break;
+            case "Introsort":
+                SearchAndSort.introSort(array);
+                best = "O(n log n)"; avg = "O(n log n)"; worst = "O(n log n)";
+                break;
+            case "LSD Radix Sort":
+                SearchAndSort.radixSort(array);
+                best = "O(n)"; avg = "O(n)"; worst = "O(n)";
+                break;
+            case "Parallel MSD Radix Sort":
+                SearchAndSort.parallelRadixSort(array);
+                best = "O(n)"; avg = "O(n)"; worst = "O(n)";
+                break;
         }
         long duration = System.nanoTime() - startTime;
+        long allocated = SearchAndSort.currentThreadAllocatedBytes() - allocatedBefore;
 
         StringBuilder resultText = new StringBuilder();
         resultText.append("--- ").append(name).append(" Results ---\n");
-        resultText.append("Sorted Array: ").append(Arrays.toString(array)).append("\n");
-        
+        appendSummary(resultText, array);
+        if (allocatedBefore >= 0) {
+            resultText.append("Bytes Allocated (calling thread): ").append(allocated).append(" bytes\n");
+        }
+
         appendPerformance(resultText, duration, best, avg, worst);
-        resultTextArea.setText(resultText.toString());
+        return new RunResult(resultText.toString(), array);
+    }
+
+    /**
+     * Appends size, min, max, mean, whether the array is sorted (and if so its median and number
+     * of distinct values), and its first and last PREVIEW_ELEMENTS elements. One O(n) pass, much
+     * cheaper than the sorts whose output it describes.
+     */
+    private static void appendSummary(StringBuilder sb, int[] array) {
+        int n = array.length;
+        sb.append("Elements: ").append(n).append("\n");
+        if (n == 0) return;
+
+        int min = array[0], max = array[0];
+        long sum = array[0];
+        int distinct = 1;
+        boolean sorted = true;
+        for (int i = 1; i < n; i++) {
+            int v = array[i];
+            if (v < min) min = v;
+            if (v > max) max = v;
+            sum += v;
+            if (v < array[i - 1]) sorted = false;
+            else if (v != array[i - 1]) distinct++;
+        }
+        sb.append("Min: ").append(min).append(", Max: ").append(max)
+          .append(", Mean: ").append(String.format("%.2f", (double) sum / n)).append("\n");
+        sb.append("Sorted: ").append(sorted ? "yes" : "no");
+        if (sorted) {
+            sb.append(", Median: ").append(array[(n - 1) / 2]).append(", Distinct values: ").append(distinct);
+        }
+        sb.append("\n");
+
+        if (n <= 2 * PREVIEW_ELEMENTS) {
+            sb.append("Array: ").append(Arrays.toString(array)).append("\n");
+        } else {
+            sb.append("First ").append(PREVIEW_ELEMENTS).append(": ").append(Arrays.toString(Arrays.copyOf(array, PREVIEW_ELEMENTS))).append("\n");
+            sb.append("Last ").append(PREVIEW_ELEMENTS).append(": ").append(Arrays.toString(Arrays.copyOfRange(array, n - PREVIEW_ELEMENTS, n))).append("\n");
+        }
     }
 
-    private void appendPerformance(StringBuilder sb, long duration, String best, String avg, String worst) {
+    private static void appendPerformance(StringBuilder sb, long duration, String best, String avg, String worst) {
         sb.append("Empirical Running Time: ").append(duration).append(" ns\n");
         sb.append("Theoretical Time Complexity:\n");
         sb.append("  - Best Case: ").append(best).append("\n");
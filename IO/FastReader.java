@@ -0,0 +1,270 @@
+package IO;
+import PrimitiveCollections.IntArrayList;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * A buffered, byte-level replacement for Scanner when reading numbers.
+ *
+ * Scanner matches every token against a regular expression and allocates a String for it,
+ * which makes reading millions of numbers take minutes. FastReader reads the input in 64 KB
+ * blocks and parses ints and doubles directly from the bytes, so nextInt allocates nothing
+ * and nextDouble allocates only for rare inputs (more than 15 significant digits or large
+ * exponents). nextDouble accepts plain decimals only: an optional sign, digits with an optional
+ * '.', and an optional exponent; Java literal forms such as 1.5f, 2d or 0x1p3, NaN and Infinity
+ * are invalid tokens.
+ *
+ * Tokens are separated by whitespace or commas, so both "5 1 9" and "5, 1, 9" can be read.
+ * Like Scanner, nextInt and nextDouble throw InputMismatchException on an invalid token and
+ * NoSuchElementException at the end of the input; unlike Scanner, the invalid token is consumed.
+ * I/O errors are rethrown as UncheckedIOException.
+ */
+public class FastReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Exact powers of ten for the fast double path; 10^22 is the largest exactly representable. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos = 0;
+    private int len = 0;
+    private byte[] token = new byte[64];
+
+    public FastReader(InputStream in) {
+        this.in = in;
+    }
+
+    /** Opens a text file for reading. */
+    public static FastReader open(Path path) throws IOException {
+        return new FastReader(Files.newInputStream(path));
+    }
+
+    /** Returns true if another token is available. */
+    public boolean hasNext() {
+        skipDelimiters();
+        return peek() != -1;
+    }
+
+    public int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new InputMismatchException("Value out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long nextLong() {
+        skipDelimiters();
+        int c = peek();
+        if (c == -1) throw new NoSuchElementException();
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            pos++;
+            c = peek();
+        }
+        if (c < '0' || c > '9') {
+            skipToken();
+            throw new InputMismatchException("Not an integer.");
+        }
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            int digit = c - '0';
+            // Accumulate negatively so that Long.MIN_VALUE is representable.
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                skipToken();
+                throw new InputMismatchException("Integer out of range.");
+            }
+            value = value * 10 - digit;
+            pos++;
+            c = peek();
+        }
+        if (!isDelimiter(c)) {
+            skipToken();
+            throw new InputMismatchException("Not an integer.");
+        }
+        if (!negative && value == Long.MIN_VALUE) throw new InputMismatchException("Integer out of range.");
+        return negative ? value : -value;
+    }
+
+    public double nextDouble() {
+        int n = readToken();
+        int i = 0;
+        boolean negative = false;
+        if (token[0] == '-' || token[0] == '+') {
+            negative = token[0] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        boolean exact = true;
+        for (; i < n && token[i] >= '0' && token[i] <= '9'; i++) {
+            sawDigit = true;
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (token[i] - '0');
+                if (mantissa != 0) digits++;
+            } else {
+                exact = false;
+            }
+        }
+        if (i < n && token[i] == '.') {
+            for (i++; i < n && token[i] >= '0' && token[i] <= '9'; i++) {
+                sawDigit = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (token[i] - '0');
+                    if (mantissa != 0) digits++;
+                    exponent--;
+                } else {
+                    exact = false;
+                }
+            }
+        }
+        if (sawDigit && i < n && (token[i] == 'e' || token[i] == 'E')) {
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < n && (token[j] == '-' || token[j] == '+')) {
+                negativeExponent = token[j] == '-';
+                j++;
+            }
+            int e = 0;
+            int start = j;
+            for (; j < n && token[j] >= '0' && token[j] <= '9'; j++) {
+                if (e < 100000) e = e * 10 + (token[j] - '0');
+            }
+            if (j > start) {
+                exponent += negativeExponent ? -e : e;
+                i = j;
+            }
+        }
+        if (!sawDigit || i != n) throw new InputMismatchException("Not a number.");
+        // Fast path (Clinger): a mantissa below 2^53 times an exact power of ten is correctly rounded.
+        if (exact && digits <= 15 && Math.abs(exponent) <= 22) {
+            double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -value : value;
+        }
+        // The token has been validated above, so parseDouble only has to round it.
+        return Double.parseDouble(new String(token, 0, n, StandardCharsets.US_ASCII));
+    }
+
+    /** Reads n ints in one call. */
+    public int[] nextInts(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = nextInt();
+        return values;
+    }
+
+    /** Reads n doubles in one call. */
+    public double[] nextDoubles(int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) values[i] = nextDouble();
+        return values;
+    }
+
+    /** Reads every remaining int until the end of the input. */
+    public int[] readAllInts() {
+        IntArrayList values = new IntArrayList(1024);
+        while (hasNext()) values.add(nextInt());
+        return values.toArray();
+    }
+
+    /** Returns the next token as a String. */
+    public String next() {
+        int n = readToken();
+        return new String(token, 0, n, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the rest of the current line, without the line terminator, and advances to the next line.
+     * As with Scanner, calling this right after nextInt returns what followed the number on that line.
+     */
+    public String nextLine() {
+        int c = peek();
+        if (c == -1) throw new NoSuchElementException();
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (c != '\r') line.append((char) c);
+            pos++;
+            c = peek();
+        }
+        if (c == '\n') pos++;
+        return line.toString();
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // --- BYTE-LEVEL HELPERS ---
+
+    /** Returns the next byte without consuming it, or -1 at the end of the input. */
+    private int peek() {
+        if (pos == len) {
+            try {
+                len = in.read(buffer, 0, BUFFER_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buffer[pos];
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == -1 || c <= ' ' || c == ',';
+    }
+
+    private void skipDelimiters() {
+        int c = peek();
+        while (c != -1 && isDelimiter(c)) {
+            pos++;
+            c = peek();
+        }
+    }
+
+    private void skipToken() {
+        int c = peek();
+        while (!isDelimiter(c)) {
+            pos++;
+            c = peek();
+        }
+    }
+
+    /** Copies the next token into the reusable token buffer and returns its length. */
+    private int readToken() {
+        skipDelimiters();
+        int c = peek();
+        if (c == -1) throw new NoSuchElementException();
+        int n = 0;
+        while (!isDelimiter(c)) {
+            if (n == token.length) token = Arrays.copyOf(token, n * 2);
+            token[n++] = (byte) c;
+            pos++;
+            c = peek();
+        }
+        return n;
+    }
+}
@@ -0,0 +1,128 @@
+package IO;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A binary dataset file mapped into memory with FileChannel.map.
+ *
+ * Files hold raw little-endian int32 or float64 values with no header, so they can be
+ * produced by any tool (e.g. numpy's tofile on a little-endian machine). The IntBuffer and
+ * DoubleBuffer views read and write the mapped pages directly: nothing is copied onto the
+ * Java heap, and the OS pages the file in and out on demand.
+ *
+ * A single mapping is limited to Integer.MAX_VALUE bytes (about 536 million ints).
+ */
+public class MappedDataset {
+
+    private final MappedByteBuffer bytes;
+    private final boolean writable;
+
+    private MappedDataset(MappedByteBuffer bytes, boolean writable) {
+        this.bytes = bytes;
+        this.writable = writable;
+    }
+
+    /**
+     * Maps an existing file, read-only or read-write.
+     */
+    public static MappedDataset open(Path path, boolean writable) throws IOException {
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long size = channel.size();
+            checkMappable(size);
+            FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+            // The mapping stays valid after the channel is closed.
+            return new MappedDataset(channel.map(mode, 0, size), writable);
+        }
+    }
+
+    /**
+     * Creates (or truncates) a file of the given size in bytes and maps it read-write.
+     */
+    public static MappedDataset create(Path path, long sizeBytes) throws IOException {
+        checkMappable(sizeBytes);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return new MappedDataset(channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes), true);
+        }
+    }
+
+    public static MappedDataset createInts(Path path, int count) throws IOException {
+        return create(path, (long) count * Integer.BYTES);
+    }
+
+    public static MappedDataset createDoubles(Path path, int count) throws IOException {
+        return create(path, (long) count * Double.BYTES);
+    }
+
+    /** Writes values to path as little-endian int32. */
+    public static void writeInts(Path path, int[] values) throws IOException {
+        MappedDataset dataset = createInts(path, values.length);
+        dataset.asInts().put(values);
+        dataset.flush();
+    }
+
+    /** Writes values to path as little-endian float64. */
+    public static void writeDoubles(Path path, double[] values) throws IOException {
+        MappedDataset dataset = createDoubles(path, values.length);
+        dataset.asDoubles().put(values);
+        dataset.flush();
+    }
+
+    /** Reads a whole int32 file onto the heap, for algorithms that need an int[]. */
+    public static int[] readInts(Path path) throws IOException {
+        IntBuffer data = open(path, false).asInts();
+        int[] values = new int[data.remaining()];
+        data.get(values);
+        return values;
+    }
+
+    /** Reads a whole float64 file onto the heap. */
+    public static double[] readDoubles(Path path) throws IOException {
+        DoubleBuffer data = open(path, false).asDoubles();
+        double[] values = new double[data.remaining()];
+        data.get(values);
+        return values;
+    }
+
+    /**
+     * Returns a little-endian int32 view of the whole file. Each call returns an independent view
+     * (own position and limit) over the same mapped memory. Trailing bytes beyond a multiple of 4 are ignored.
+     */
+    public IntBuffer asInts() {
+        return bytes.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /** Returns a little-endian float64 view of the whole file. */
+    public DoubleBuffer asDoubles() {
+        return bytes.duplicate().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    public int intCount() {
+        return bytes.capacity() / Integer.BYTES;
+    }
+
+    public int doubleCount() {
+        return bytes.capacity() / Double.BYTES;
+    }
+
+    /** Writes modified pages back to the file. */
+    public void flush() {
+        if (writable) bytes.force();
+    }
+
+    private static void checkMappable(long sizeBytes) {
+        if (sizeBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File is larger than a single mapping (" + Integer.MAX_VALUE + " bytes); "
+                    + "use ExternalSort for files of this size.");
+        }
+    }
+}
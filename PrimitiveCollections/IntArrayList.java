@@ -0,0 +1,108 @@
+package PrimitiveCollections;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable int array: an ArrayList<Integer> without the Integer objects.
+ *
+ * Elements live in one int[] that doubles when full, so add is amortized O(1) and get/set
+ * are O(1) with no unboxing. toArray copies the elements into an exactly-sized int[] for the
+ * array-based algorithms in DSA1 and DSA2. Not thread-safe.
+ */
+public class IntArrayList {
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(16);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must not be negative.");
+        elements = new int[initialCapacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /** Appends values[from..to). */
+    public void addAll(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        int count = to - from;
+        if (size + count > elements.length) grow(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /** Replaces the element at index; returns the old value. */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /** Removes and returns the last element, so the list also works as a stack. */
+    public int removeLast() {
+        if (size == 0) throw new IllegalStateException("List is empty.");
+        return elements[--size];
+    }
+
+    /** The index of the first occurrence of value, or -1. O(n). */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes every element but keeps the capacity. */
+    public void clear() {
+        size = 0;
+    }
+
+    /** Sorts the elements in ascending order. */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) throw new IllegalStateException("IntArrayList is full.");
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) elements.length * 2, minCapacity));
+        if (capacity < minCapacity) throw new IllegalStateException("IntArrayList is full.");
+        elements = Arrays.copyOf(elements, Math.max(capacity, 8));
+    }
+}
@@ -0,0 +1,126 @@
+package PrimitiveCollections;
+import java.util.Arrays;
+
+/**
+ * A growable set of non-negative ints, one bit each.
+ *
+ * Like java.util.BitSet, it keeps bits in a long[] that grows to fit the largest index set.
+ * Unlike BitSet it has add, a test-and-set that reports whether the bit was new, so
+ * "have I seen this value?" is a single call; that is how Distinctness uses it. For values in
+ * a range [0, m) it needs m / 8 bytes, far less than a hash set when the range is dense.
+ * Not thread-safe.
+ */
+public class IntBitSet {
+
+    private long[] words;
+
+    public IntBitSet() {
+        this(64);
+    }
+
+    /** Creates a set that holds indices below nbits without growing. */
+    public IntBitSet(int nbits) {
+        if (nbits < 0) throw new IllegalArgumentException("Size must not be negative.");
+        words = new long[wordIndex(nbits + 63L)];
+    }
+
+    /** Sets bit index; returns false if it was already set. */
+    public boolean add(int index) {
+        // A negative index shifts to a huge word index, so one comparison guards both cases.
+        int w = index >>> 6;
+        long[] words = this.words;
+        if (w >= words.length) words = growFor(index);
+        long bit = 1L << index;
+        long old = words[w];
+        words[w] = old | bit;
+        return (old & bit) == 0;
+    }
+
+    public void set(int index) {
+        add(index);
+    }
+
+    public void clear(int index) {
+        int w = index >>> 6;
+        if (w < words.length) words[w] &= ~(1L << index);
+        else checkIndex(index);
+    }
+
+    public boolean get(int index) {
+        int w = index >>> 6;
+        if (w >= words.length) return checkIndex(index) < 0;
+        return (words[w] & (1L << index)) != 0;
+    }
+
+    /** The first set bit at or after from, or -1 if there is none. */
+    public int nextSetBit(int from) {
+        int w = wordIndex(checkIndex(from));
+        if (w >= words.length) return -1;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    /** The number of set bits. */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        return count;
+    }
+
+    /** One more than the highest set bit, or 0 if none is set. */
+    public int length() {
+        for (int w = words.length - 1; w >= 0; w--) {
+            if (words[w] != 0) return (w << 6) + 64 - Long.numberOfLeadingZeros(words[w]);
+        }
+        return 0;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    /** Clears every bit but keeps the capacity. */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /** The set bits in ascending order. */
+    public int[] toArray() {
+        int[] out = new int[cardinality()];
+        int n = 0;
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                out[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /** Grows the array to hold bit index and returns it. */
+    private long[] growFor(int index) {
+        int count = wordIndex(checkIndex(index)) + 1;
+        words = Arrays.copyOf(words, Math.max(words.length * 2, count));
+        return words;
+    }
+
+    private static int wordIndex(long bitIndex) {
+        return (int) (bitIndex >>> 6);
+    }
+
+    private static int checkIndex(int index) {
+        if (index < 0) throw new IndexOutOfBoundsException("Bit index must not be negative: " + index);
+        return index;
+    }
+}
@@ -0,0 +1,158 @@
+package PrimitiveCollections;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of ints stored in a flat int[] hash table, without boxing.
+ *
+ * A HashSet<Integer> costs an Integer object and a table node per element (about 48 bytes)
+ * plus a pointer dereference per lookup; this table costs 8 to 16 bytes per element and a
+ * lookup usually reads one cache line. It uses open addressing with linear probing and stays at
+ * most half full. Slot value 0 means empty, so the key 0 itself is tracked by a separate flag.
+ * remove uses backward-shift deletion, so lookups never have to step over tombstones.
+ *
+ * add, contains and remove take O(1) expected time. Iteration order is unspecified.
+ * Not thread-safe.
+ */
+public class IntHashSet {
+
+    private int[] keys;
+    private int mask;
+    private int threshold;
+    /** Keys in the table, not counting 0. */
+    private int assigned;
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    /** Creates a set that holds expectedSize keys without resizing. */
+    public IntHashSet(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    /** Creates a set of the distinct values in values. */
+    public static IntHashSet of(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        for (int v : values) set.add(v);
+        return set;
+    }
+
+    /** Adds key; returns false if it was already present. */
+    public boolean add(int key) {
+        if (key == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            return true;
+        }
+        int slot = IntHashing.mix(key) & mask;
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) return false;
+        }
+        keys[slot] = key;
+        if (++assigned > threshold) rehash(keys.length * 2);
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == 0) return containsZero;
+        int slot = IntHashing.mix(key) & mask;
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) return true;
+        }
+        return false;
+    }
+
+    /** Removes key; returns false if it was not present. */
+    public boolean remove(int key) {
+        if (key == 0) {
+            boolean had = containsZero;
+            containsZero = false;
+            return had;
+        }
+        int slot = IntHashing.mix(key) & mask;
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                shiftOut(slot);
+                assigned--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return assigned + (containsZero ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Removes every key but keeps the table's capacity. */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        assigned = 0;
+        containsZero = false;
+    }
+
+    /** The keys in table order (unspecified). */
+    public int[] toArray() {
+        int[] out = new int[size()];
+        int n = 0;
+        if (containsZero) out[n++] = 0;
+        for (int k : keys) {
+            if (k != 0) out[n++] = k;
+        }
+        return out;
+    }
+
+    /** The keys in ascending order. */
+    public int[] toSortedArray() {
+        int[] out = toArray();
+        Arrays.sort(out);
+        return out;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (containsZero) action.accept(0);
+        for (int k : keys) {
+            if (k != 0) action.accept(k);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        threshold = IntHashing.resizeThreshold(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > IntHashing.MAX_CAPACITY) throw new IllegalStateException("IntHashSet is full.");
+        int[] old = keys;
+        allocate(capacity);
+        for (int k : old) {
+            if (k == 0) continue;
+            int slot = IntHashing.mix(k) & mask;
+            while (keys[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = k;
+        }
+    }
+
+    /** Empties slot hole and moves later keys of the same probe run back to fill the gap. */
+    private void shiftOut(int hole) {
+        for (int j = (hole + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            if (IntHashing.canShift(IntHashing.mix(keys[j]) & mask, hole, j, mask)) {
+                keys[hole] = keys[j];
+                hole = j;
+            }
+        }
+        keys[hole] = 0;
+    }
+}
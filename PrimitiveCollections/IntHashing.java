@@ -0,0 +1,46 @@
+package PrimitiveCollections;
+
+/**
+ * Hashing helpers shared by IntHashSet and IntIntHashMap.
+ *
+ * Both tables use open addressing with linear probing in a power-of-two array, so a key's
+ * home slot is mix(key) & mask. Keys are ints, so the identity hash would send 0, 1, 2, ...
+ * to neighbouring slots and multiples of the capacity to the same one; mix scrambles them first.
+ */
+final class IntHashing {
+
+    /** Tables grow when more than half full, which keeps linear probe sequences short. */
+    static final int MAX_LOAD_PERCENT = 50;
+    /** The largest power-of-two array length. */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {
+    }
+
+    /** Fibonacci hashing, then folds the well-mixed high bits onto the low bits used by the mask. */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** The smallest power-of-two capacity that holds expected keys without exceeding the load factor. */
+    static int capacityFor(int expected) {
+        if (expected < 0) throw new IllegalArgumentException("Expected size must not be negative.");
+        long needed = Math.max(4L, (long) expected * 100 / MAX_LOAD_PERCENT + 1);
+        if (needed > MAX_CAPACITY) throw new IllegalArgumentException("Too many keys: " + expected);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /** The number of keys at which a table of this capacity has to grow. */
+    static int resizeThreshold(int capacity) {
+        return (int) ((long) capacity * MAX_LOAD_PERCENT / 100);
+    }
+
+    /**
+     * Whether the key in slot j, whose home slot is home, may move back into the hole at slot i
+     * when deleting: it may if i lies on its probe path from home to j.
+     */
+    static boolean canShift(int home, int i, int j, int mask) {
+        return ((j - home) & mask) >= ((j - i) & mask);
+    }
+}
@@ -0,0 +1,205 @@
+package PrimitiveCollections;
+import java.util.Arrays;
+
+/**
+ * A map from int keys to int values stored in two parallel arrays, without boxing.
+ *
+ * It uses the same layout as IntHashSet: open addressing, linear probing, at most half full,
+ * backward-shift deletion, and a separate slot for the key 0 (a 0 in keys[] marks an empty
+ * slot). Looking up a missing key returns a caller-supplied default instead of null, and addTo
+ * updates a counter in one probe, which makes the map a cheap histogram.
+ *
+ * get, put, addTo and remove take O(1) expected time. Iteration order is unspecified.
+ * Not thread-safe.
+ */
+public class IntIntHashMap {
+
+    /** Receives one entry per call from forEach. */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int threshold;
+    /** Entries in the table, not counting key 0. */
+    private int assigned;
+    private boolean containsZero;
+    private int zeroValue;
+
+    public IntIntHashMap() {
+        this(16);
+    }
+
+    /** Creates a map that holds expectedSize entries without resizing. */
+    public IntIntHashMap(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    /** The value for key, or defaultValue if key is absent. */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) return containsZero ? zeroValue : defaultValue;
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /** The value for key, or 0 if key is absent. */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZero : find(key) >= 0;
+    }
+
+    /** Maps key to value; returns the previous value, or 0 if key was absent. */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = containsZero ? zeroValue : 0;
+            containsZero = true;
+            zeroValue = value;
+            return previous;
+        }
+        int slot = IntHashing.mix(key) & mask;
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        insert(slot, key, value);
+        return 0;
+    }
+
+    /**
+     * Adds delta to the value for key, treating an absent key as 0; returns the previous value.
+     * Counting occurrences is map.addTo(x, 1), and the return value says whether x was new.
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            int previous = containsZero ? zeroValue : 0;
+            containsZero = true;
+            zeroValue = previous + delta;
+            return previous;
+        }
+        int slot = IntHashing.mix(key) & mask;
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                int previous = values[slot];
+                values[slot] = previous + delta;
+                return previous;
+            }
+        }
+        insert(slot, key, delta);
+        return 0;
+    }
+
+    /** Removes key; returns false if it was not present. */
+    public boolean remove(int key) {
+        if (key == 0) {
+            boolean had = containsZero;
+            containsZero = false;
+            zeroValue = 0;
+            return had;
+        }
+        int slot = find(key);
+        if (slot < 0) return false;
+        shiftOut(slot);
+        assigned--;
+        return true;
+    }
+
+    public int size() {
+        return assigned + (containsZero ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Removes every entry but keeps the table's capacity. */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        assigned = 0;
+        containsZero = false;
+        zeroValue = 0;
+    }
+
+    /** The keys in table order (unspecified). */
+    public int[] keys() {
+        int[] out = new int[size()];
+        int n = 0;
+        if (containsZero) out[n++] = 0;
+        for (int k : keys) {
+            if (k != 0) out[n++] = k;
+        }
+        return out;
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (containsZero) action.accept(0, zeroValue);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) action.accept(keys[slot], values[slot]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append('=').append(v));
+        return sb.append('}').toString();
+    }
+
+    /** The slot holding key (non-zero), or -1. */
+    private int find(int key) {
+        int slot = IntHashing.mix(key) & mask;
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) return slot;
+        }
+        return -1;
+    }
+
+    private void insert(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++assigned > threshold) rehash(keys.length * 2);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = IntHashing.resizeThreshold(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > IntHashing.MAX_CAPACITY) throw new IllegalStateException("IntIntHashMap is full.");
+        int[] oldKeys = keys, oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int k = oldKeys[i];
+            if (k == 0) continue;
+            int slot = IntHashing.mix(k) & mask;
+            while (keys[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = k;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /** Empties slot hole and moves later entries of the same probe run back to fill the gap. */
+    private void shiftOut(int hole) {
+        for (int j = (hole + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            if (IntHashing.canShift(IntHashing.mix(keys[j]) & mask, hole, j, mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = 0;
+    }
+}
@@ -0,0 +1,105 @@
+package DSA1;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of SimdKernels. Only loaded by SimdKernels after it has checked
+ * that jdk.incubator.vector is present.
+ *
+ * This file lives outside the main source tree so that the rest of the project compiles with a
+ * plain javac (and stays free of the "using incubating module(s)" warning). Build it as a
+ * separate step, into the same output directory:
+ *   javac --add-modules jdk.incubator.vector -cp out -d out incubator-vector/DSA1/VectorApiKernels.java
+ *
+ * Each loop runs a whole vector per step up to SPECIES.loopBound and finishes the last
+ * length % lanes elements with scalar code.
+ */
+final class VectorApiKernels implements SimdKernels.Kernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public String description() {
+        return "Vector API, " + SPECIES.vectorBitSize() + "-bit (" + SPECIES.length() + " doubles)";
+    }
+
+    @Override
+    public double dot(double[] x, int xOff, double[] y, int yOff, int length) {
+        // Two accumulators hide the latency of the vector add.
+        int lanes = SPECIES.length();
+        DoubleVector acc0 = DoubleVector.zero(SPECIES), acc1 = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = length - 2 * lanes; i <= bound; i += 2 * lanes) {
+            acc0 = acc0.add(DoubleVector.fromArray(SPECIES, x, xOff + i).mul(DoubleVector.fromArray(SPECIES, y, yOff + i)));
+            acc1 = acc1.add(DoubleVector.fromArray(SPECIES, x, xOff + i + lanes).mul(DoubleVector.fromArray(SPECIES, y, yOff + i + lanes)));
+        }
+        for (int bound = SPECIES.loopBound(length); i < bound; i += lanes) {
+            acc0 = acc0.add(DoubleVector.fromArray(SPECIES, x, xOff + i).mul(DoubleVector.fromArray(SPECIES, y, yOff + i)));
+        }
+        double sum = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) sum += x[xOff + i] * y[yOff + i];
+        return sum;
+    }
+
+    @Override
+    public void axpy(double a, double[] x, int xOff, double[] y, int yOff, int length) {
+        DoubleVector va = DoubleVector.broadcast(SPECIES, a);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, yOff + i);
+            vy.add(DoubleVector.fromArray(SPECIES, x, xOff + i).mul(va)).intoArray(y, yOff + i);
+        }
+        for (; i < length; i++) y[yOff + i] += a * x[xOff + i];
+    }
+
+    @Override
+    public void multiplyStrided(double[] A, int aOff, int lda, double[] B, int bOff, int ldb,
+                                double[] C, int cOff, int ldc, int k, int n, int rowStart, int rowEnd) {
+        int lanes = SPECIES.length();
+        for (int ii = rowStart; ii < rowEnd; ii += MatrixKernels.BLOCK_I) {
+            int iEnd = Math.min(ii + MatrixKernels.BLOCK_I, rowEnd);
+            for (int kk = 0; kk < k; kk += MatrixKernels.BLOCK_K) {
+                int kEnd = Math.min(kk + MatrixKernels.BLOCK_K, k);
+                for (int jj = 0; jj < n; jj += MatrixKernels.BLOCK_J) {
+                    int jEnd = Math.min(jj + MatrixKernels.BLOCK_J, n);
+                    int jVectorEnd = jj + SPECIES.loopBound(jEnd - jj);
+                    int i = ii;
+                    // Four rows of C per pass, as in the scalar kernel: each vector of B feeds four updates.
+                    for (; i + 3 < iEnd; i += 4) {
+                        int a0 = aOff + i * lda, a1 = a0 + lda, a2 = a1 + lda, a3 = a2 + lda;
+                        int c0 = cOff + i * ldc, c1 = c0 + ldc, c2 = c1 + ldc, c3 = c2 + ldc;
+                        for (int p = kk; p < kEnd; p++) {
+                            double x0 = A[a0 + p], x1 = A[a1 + p], x2 = A[a2 + p], x3 = A[a3 + p];
+                            DoubleVector v0 = DoubleVector.broadcast(SPECIES, x0), v1 = DoubleVector.broadcast(SPECIES, x1);
+                            DoubleVector v2 = DoubleVector.broadcast(SPECIES, x2), v3 = DoubleVector.broadcast(SPECIES, x3);
+                            int bRow = bOff + p * ldb;
+                            int j = jj;
+                            for (; j < jVectorEnd; j += lanes) {
+                                DoubleVector b = DoubleVector.fromArray(SPECIES, B, bRow + j);
+                                DoubleVector.fromArray(SPECIES, C, c0 + j).add(b.mul(v0)).intoArray(C, c0 + j);
+                                DoubleVector.fromArray(SPECIES, C, c1 + j).add(b.mul(v1)).intoArray(C, c1 + j);
+                                DoubleVector.fromArray(SPECIES, C, c2 + j).add(b.mul(v2)).intoArray(C, c2 + j);
+                                DoubleVector.fromArray(SPECIES, C, c3 + j).add(b.mul(v3)).intoArray(C, c3 + j);
+                            }
+                            for (; j < jEnd; j++) {
+                                double b = B[bRow + j];
+                                C[c0 + j] += x0 * b;
+                                C[c1 + j] += x1 * b;
+                                C[c2 + j] += x2 * b;
+                                C[c3 + j] += x3 * b;
+                            }
+                        }
+                    }
+                    for (; i < iEnd; i++) {
+                        int aRow = aOff + i * lda;
+                        int cRow = cOff + i * ldc;
+                        for (int p = kk; p < kEnd; p++) {
+                            axpy(A[aRow + p], B, bOff + p * ldb + jj, C, cRow + jj, jEnd - jj);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}